@@ -8,6 +8,7 @@ import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
+import javax.annotation.Nullable;
 
 public class CompressionDecoder extends ByteToMessageDecoder {
 	public static final int MAXIMUM_COMPRESSED_LENGTH = 2097152;
@@ -27,7 +28,7 @@ public class CompressionDecoder extends ByteToMessageDecoder {
 		if (byteBuf.readableBytes() != 0) {
 			int i = VarInt.read(byteBuf);
 			if (i == 0) {
-				list.add(byteBuf.readBytes(byteBuf.readableBytes()));
+				list.add(byteBuf.readRetainedSlice(byteBuf.readableBytes()));
 			} else {
 				if (this.validateDecompressed) {
 					if (i < this.threshold) {
@@ -39,26 +40,32 @@ public class CompressionDecoder extends ByteToMessageDecoder {
 					}
 				}
 
-				this.setupInflaterInput(byteBuf);
-				ByteBuf byteBuf2 = this.inflate(channelHandlerContext, i);
-				this.inflater.reset();
-				list.add(byteBuf2);
+				ByteBuf byteBuf2 = this.setupInflaterInput(channelHandlerContext, byteBuf);
+
+				try {
+					list.add(this.inflate(channelHandlerContext, i));
+				} finally {
+					this.inflater.reset();
+					if (byteBuf2 != null) {
+						byteBuf2.release();
+					}
+				}
 			}
 		}
 	}
 
-	private void setupInflaterInput(ByteBuf byteBuf) {
-		ByteBuffer byteBuffer;
-		if (byteBuf.nioBufferCount() > 0) {
-			byteBuffer = byteBuf.nioBuffer();
+	@Nullable
+	private ByteBuf setupInflaterInput(ChannelHandlerContext channelHandlerContext, ByteBuf byteBuf) {
+		if (byteBuf.nioBufferCount() == 1) {
+			this.inflater.setInput(byteBuf.nioBuffer());
 			byteBuf.skipBytes(byteBuf.readableBytes());
+			return null;
 		} else {
-			byteBuffer = ByteBuffer.allocateDirect(byteBuf.readableBytes());
-			byteBuf.readBytes(byteBuffer);
-			byteBuffer.flip();
+			ByteBuf byteBuf2 = channelHandlerContext.alloc().directBuffer(byteBuf.readableBytes());
+			byteBuf2.writeBytes(byteBuf);
+			this.inflater.setInput(byteBuf2.nioBuffer());
+			return byteBuf2;
 		}
-
-		this.inflater.setInput(byteBuffer);
 	}
 
 	private ByteBuf inflate(ChannelHandlerContext channelHandlerContext, int i) throws DataFormatException {
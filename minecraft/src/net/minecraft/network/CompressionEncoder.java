@@ -3,10 +3,11 @@ package net.minecraft.network;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
+import java.nio.ByteBuffer;
 import java.util.zip.Deflater;
 
 public class CompressionEncoder extends MessageToByteEncoder<ByteBuf> {
-	private final byte[] encodeBuf = new byte[8192];
+	private static final int DEFLATE_CHUNK_SIZE = 8192;
 	private final Deflater deflater;
 	private int threshold;
 
@@ -16,23 +17,34 @@ public class CompressionEncoder extends MessageToByteEncoder<ByteBuf> {
 	}
 
 	protected void encode(ChannelHandlerContext channelHandlerContext, ByteBuf byteBuf, ByteBuf byteBuf2) {
+		compress(byteBuf, byteBuf2, this.threshold, this.deflater);
+	}
+
+	protected ByteBuf allocateBuffer(ChannelHandlerContext channelHandlerContext, ByteBuf byteBuf, boolean bl) {
 		int i = byteBuf.readableBytes();
-		if (i < this.threshold) {
+		int j = i < this.threshold ? i + 5 : (i >> 1) + 5;
+		return bl ? channelHandlerContext.alloc().ioBuffer(j) : channelHandlerContext.alloc().heapBuffer(j);
+	}
+
+	public static void compress(ByteBuf byteBuf, ByteBuf byteBuf2, int i, Deflater deflater) {
+		int j = byteBuf.readableBytes();
+		if (j < i) {
 			VarInt.write(byteBuf2, 0);
 			byteBuf2.writeBytes(byteBuf);
 		} else {
-			byte[] bs = new byte[i];
-			byteBuf.readBytes(bs);
-			VarInt.write(byteBuf2, bs.length);
-			this.deflater.setInput(bs, 0, i);
-			this.deflater.finish();
-
-			while(!this.deflater.finished()) {
-				int j = this.deflater.deflate(this.encodeBuf);
-				byteBuf2.writeBytes(this.encodeBuf, 0, j);
+			VarInt.write(byteBuf2, j);
+			deflater.setInput(byteBuf.nioBuffer());
+			deflater.finish();
+
+			while(!deflater.finished()) {
+				byteBuf2.ensureWritable(8192);
+				ByteBuffer byteBuffer = byteBuf2.nioBuffer(byteBuf2.writerIndex(), byteBuf2.writableBytes());
+				int k = deflater.deflate(byteBuffer);
+				byteBuf2.writerIndex(byteBuf2.writerIndex() + k);
 			}
 
-			this.deflater.reset();
+			deflater.reset();
+			byteBuf.skipBytes(j);
 		}
 	}
 
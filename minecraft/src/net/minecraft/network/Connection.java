@@ -10,6 +10,7 @@ import io.netty.channel.ChannelException;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
@@ -76,7 +77,9 @@ public class Connection extends SimpleChannelInboundHandler<Packet<?>> {
 		() -> new DefaultEventLoopGroup(0, new ThreadFactoryBuilder().setNameFormat("Netty Local Client IO #%d").setDaemon(true).build())
 	);
 	private final PacketFlow receiving;
+	private static volatile int outboundBatchFlushBytes;
 	private final Queue<Consumer<Connection>> pendingActions = Queues.newConcurrentLinkedQueue();
+	private final Queue<Connection.QueuedPacket> outboundBatch = Queues.newConcurrentLinkedQueue();
 	private Channel channel;
 	private SocketAddress address;
 	@Nullable
@@ -252,10 +255,22 @@ public class Connection extends SimpleChannelInboundHandler<Packet<?>> {
 		this.send(packet, packetSendListener, true);
 	}
 
+	public static void configureOutboundBatching(boolean bl, int i) {
+		outboundBatchFlushBytes = bl ? i : 0;
+	}
+
 	public void send(Packet<?> packet, @Nullable PacketSendListener packetSendListener, boolean bl) {
 		if (this.isConnected()) {
 			this.flushQueue();
-			this.sendPacket(packet, packetSendListener, bl);
+			if (outboundBatchFlushBytes > 0 && (!bl || !this.outboundBatch.isEmpty()) && !this.isMemoryConnection()) {
+				++this.sentPackets;
+				this.outboundBatch.add(new Connection.QueuedPacket(packet, packetSendListener));
+				if (bl) {
+					this.writeOutboundBatch();
+				}
+			} else {
+				this.sendPacket(packet, packetSendListener, bl);
+			}
 		} else {
 			this.pendingActions.add((Consumer)connection -> connection.sendPacket(packet, packetSendListener, bl));
 		}
@@ -298,9 +313,34 @@ public class Connection extends SimpleChannelInboundHandler<Packet<?>> {
 		channelFuture.addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
 	}
 
+	private void writeOutboundBatch() {
+		if (this.channel.eventLoop().inEventLoop()) {
+			this.doWriteOutboundBatch();
+		} else {
+			this.channel.eventLoop().execute(this::doWriteOutboundBatch);
+		}
+	}
+
+	private void doWriteOutboundBatch() {
+		Connection.QueuedPacket queuedPacket;
+		while((queuedPacket = (Connection.QueuedPacket)this.outboundBatch.poll()) != null) {
+			this.doSendPacket(queuedPacket.packet(), queuedPacket.listener(), false);
+			ChannelOutboundBuffer channelOutboundBuffer = this.channel.unsafe().outboundBuffer();
+			if (channelOutboundBuffer != null && channelOutboundBuffer.totalPendingWriteBytes() >= (long)outboundBatchFlushBytes) {
+				this.channel.flush();
+			}
+		}
+
+		this.channel.flush();
+	}
+
 	public void flushChannel() {
 		if (this.isConnected()) {
-			this.flush();
+			if (this.outboundBatch.isEmpty()) {
+				this.flush();
+			} else {
+				this.writeOutboundBatch();
+			}
 		} else {
 			this.pendingActions.add(Connection::flush);
 		}
@@ -565,4 +605,7 @@ public class Connection extends SimpleChannelInboundHandler<Packet<?>> {
 	public void setBandwidthLogger(SampleLogger sampleLogger) {
 		this.bandwidthDebugMonitor = new BandwidthDebugMonitor(sampleLogger);
 	}
+
+	static record QueuedPacket(Packet<?> packet, @Nullable PacketSendListener listener) {
+	}
 }
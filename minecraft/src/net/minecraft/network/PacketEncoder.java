@@ -2,7 +2,9 @@ package net.minecraft.network;
 
 import com.mojang.logging.LogUtils;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.MessageToByteEncoder;
 import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
@@ -19,6 +21,30 @@ public class PacketEncoder extends MessageToByteEncoder<Packet<?>> {
 		this.codecKey = attributeKey;
 	}
 
+	@Override
+	public void write(ChannelHandlerContext channelHandlerContext, Object object, ChannelPromise channelPromise) throws Exception {
+		if (object instanceof PrecompressedPacket precompressedPacket && this.writePrecompressed(channelHandlerContext, precompressedPacket, channelPromise)) {
+			return;
+		}
+
+		super.write(channelHandlerContext, object, channelPromise);
+	}
+
+	private boolean writePrecompressed(ChannelHandlerContext channelHandlerContext, PrecompressedPacket precompressedPacket, ChannelPromise channelPromise) {
+		PrecompressedPacket.Frame frame = precompressedPacket.getPrecompressedFrame();
+		ChannelHandlerContext channelHandlerContext2 = channelHandlerContext.pipeline().context("compress");
+		if (frame != null && channelHandlerContext2 != null && channelHandlerContext2.handler() instanceof CompressionEncoder compressionEncoder) {
+			ConnectionProtocol.CodecData<?> codecData = channelHandlerContext.channel().attr(this.codecKey).get();
+			if (codecData != null && frame.threshold() == compressionEncoder.getThreshold() && frame.packetId() == codecData.packetId((Packet<?>)precompressedPacket)) {
+				JvmProfiler.INSTANCE.onPacketSent(codecData.protocol(), frame.packetId(), channelHandlerContext.channel().remoteAddress(), frame.data().length);
+				channelHandlerContext2.write(Unpooled.wrappedBuffer(frame.data()), channelPromise);
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	protected void encode(ChannelHandlerContext channelHandlerContext, Packet<?> packet, ByteBuf byteBuf) throws Exception {
 		Attribute<ConnectionProtocol.CodecData<?>> attribute = channelHandlerContext.channel().attr(this.codecKey);
 		ConnectionProtocol.CodecData<?> codecData = attribute.get();
@@ -0,0 +1,37 @@
+package net.minecraft.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.zip.Deflater;
+import javax.annotation.Nullable;
+import net.minecraft.network.protocol.Packet;
+
+public interface PrecompressedPacket {
+	@Nullable
+	PrecompressedPacket.Frame getPrecompressedFrame();
+
+	public static record Frame(int packetId, int threshold, byte[] data) {
+		public static PrecompressedPacket.Frame encode(Packet<?> packet, int i, int j) {
+			ByteBuf byteBuf = Unpooled.directBuffer();
+			ByteBuf byteBuf2 = Unpooled.directBuffer();
+			Deflater deflater = new Deflater();
+
+			PrecompressedPacket.Frame var8;
+			try {
+				FriendlyByteBuf friendlyByteBuf = new FriendlyByteBuf(byteBuf);
+				friendlyByteBuf.writeVarInt(i);
+				packet.write(friendlyByteBuf);
+				CompressionEncoder.compress(byteBuf, byteBuf2, j, deflater);
+				byte[] bs = new byte[byteBuf2.readableBytes()];
+				byteBuf2.readBytes(bs);
+				var8 = new PrecompressedPacket.Frame(i, j, bs);
+			} finally {
+				deflater.end();
+				byteBuf.release();
+				byteBuf2.release();
+			}
+
+			return var8;
+		}
+	}
+}
@@ -6,6 +6,7 @@ import io.netty.buffer.Unpooled;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
@@ -26,21 +27,59 @@ public class ClientboundLevelChunkPacketData {
 	private final List<ClientboundLevelChunkPacketData.BlockEntityInfo> blockEntitiesData;
 
 	public ClientboundLevelChunkPacketData(LevelChunk levelChunk) {
-		this.heightmaps = new CompoundTag();
+		this.heightmaps = extractHeightmaps(levelChunk);
+		this.buffer = new byte[calculateChunkSize(levelChunk.getSections())];
+		extractChunkData(new FriendlyByteBuf(this.getWriteBuffer()), levelChunk);
+		this.blockEntitiesData = extractBlockEntities(levelChunk);
+	}
+
+	private ClientboundLevelChunkPacketData(
+		CompoundTag compoundTag, LevelChunkSection[] levelChunkSections, List<ClientboundLevelChunkPacketData.BlockEntityInfo> list
+	) {
+		this.heightmaps = compoundTag;
+		this.buffer = new byte[calculateChunkSize(levelChunkSections)];
+		FriendlyByteBuf friendlyByteBuf = new FriendlyByteBuf(this.getWriteBuffer());
+
+		for(LevelChunkSection levelChunkSection : levelChunkSections) {
+			levelChunkSection.write(friendlyByteBuf);
+		}
+
+		this.blockEntitiesData = list;
+	}
+
+	public static Supplier<ClientboundLevelChunkPacketData> prepare(LevelChunk levelChunk) {
+		CompoundTag compoundTag = extractHeightmaps(levelChunk);
+		LevelChunkSection[] levelChunkSections = levelChunk.getSections();
+		LevelChunkSection[] levelChunkSections2 = new LevelChunkSection[levelChunkSections.length];
+
+		for(int i = 0; i < levelChunkSections.length; ++i) {
+			levelChunkSections2[i] = levelChunkSections[i].copy();
+		}
+
+		List<ClientboundLevelChunkPacketData.BlockEntityInfo> list = extractBlockEntities(levelChunk);
+		return () -> new ClientboundLevelChunkPacketData(compoundTag, levelChunkSections2, list);
+	}
+
+	private static CompoundTag extractHeightmaps(LevelChunk levelChunk) {
+		CompoundTag compoundTag = new CompoundTag();
 
 		for(Entry<Heightmap.Types, Heightmap> entry : levelChunk.getHeightmaps()) {
 			if (((Heightmap.Types)entry.getKey()).sendToClient()) {
-				this.heightmaps.put(((Heightmap.Types)entry.getKey()).getSerializationKey(), new LongArrayTag(((Heightmap)entry.getValue()).getRawData()));
+				compoundTag.put(((Heightmap.Types)entry.getKey()).getSerializationKey(), new LongArrayTag((long[])((Heightmap)entry.getValue()).getRawData().clone()));
 			}
 		}
 
-		this.buffer = new byte[calculateChunkSize(levelChunk)];
-		extractChunkData(new FriendlyByteBuf(this.getWriteBuffer()), levelChunk);
-		this.blockEntitiesData = Lists.<ClientboundLevelChunkPacketData.BlockEntityInfo>newArrayList();
+		return compoundTag;
+	}
+
+	private static List<ClientboundLevelChunkPacketData.BlockEntityInfo> extractBlockEntities(LevelChunk levelChunk) {
+		List<ClientboundLevelChunkPacketData.BlockEntityInfo> list = Lists.<ClientboundLevelChunkPacketData.BlockEntityInfo>newArrayList();
 
 		for(Entry<BlockPos, BlockEntity> entry : levelChunk.getBlockEntities().entrySet()) {
-			this.blockEntitiesData.add(ClientboundLevelChunkPacketData.BlockEntityInfo.create((BlockEntity)entry.getValue()));
+			list.add(ClientboundLevelChunkPacketData.BlockEntityInfo.create((BlockEntity)entry.getValue()));
 		}
+
+		return list;
 	}
 
 	public ClientboundLevelChunkPacketData(FriendlyByteBuf friendlyByteBuf, int i, int j) {
@@ -66,10 +105,10 @@ public class ClientboundLevelChunkPacketData {
 		friendlyByteBuf.writeCollection(this.blockEntitiesData, (friendlyByteBufx, blockEntityInfo) -> blockEntityInfo.write(friendlyByteBufx));
 	}
 
-	private static int calculateChunkSize(LevelChunk levelChunk) {
+	private static int calculateChunkSize(LevelChunkSection[] levelChunkSections) {
 		int i = 0;
 
-		for(LevelChunkSection levelChunkSection : levelChunk.getSections()) {
+		for(LevelChunkSection levelChunkSection : levelChunkSections) {
 			i += levelChunkSection.getSerializedSize();
 		}
 
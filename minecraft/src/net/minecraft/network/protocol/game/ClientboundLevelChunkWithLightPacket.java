@@ -1,18 +1,24 @@
 package net.minecraft.network.protocol.game;
 
 import java.util.BitSet;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
+import net.minecraft.network.ConnectionProtocol;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.PrecompressedPacket;
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.PacketFlow;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.lighting.LevelLightEngine;
 
-public class ClientboundLevelChunkWithLightPacket implements Packet<ClientGamePacketListener> {
+public class ClientboundLevelChunkWithLightPacket implements Packet<ClientGamePacketListener>, PrecompressedPacket {
 	private final int x;
 	private final int z;
 	private final ClientboundLevelChunkPacketData chunkData;
 	private final ClientboundLightUpdatePacketData lightData;
+	@Nullable
+	private volatile PrecompressedPacket.Frame precompressedFrame;
 
 	public ClientboundLevelChunkWithLightPacket(LevelChunk levelChunk, LevelLightEngine levelLightEngine, @Nullable BitSet bitSet, @Nullable BitSet bitSet2) {
 		ChunkPos chunkPos = levelChunk.getPos();
@@ -22,6 +28,22 @@ public class ClientboundLevelChunkWithLightPacket implements Packet<ClientGamePa
 		this.lightData = new ClientboundLightUpdatePacketData(chunkPos, levelLightEngine, bitSet, bitSet2);
 	}
 
+	private ClientboundLevelChunkWithLightPacket(
+		ChunkPos chunkPos, ClientboundLevelChunkPacketData clientboundLevelChunkPacketData, ClientboundLightUpdatePacketData clientboundLightUpdatePacketData
+	) {
+		this.x = chunkPos.x;
+		this.z = chunkPos.z;
+		this.chunkData = clientboundLevelChunkPacketData;
+		this.lightData = clientboundLightUpdatePacketData;
+	}
+
+	public static Supplier<ClientboundLevelChunkWithLightPacket> prepare(LevelChunk levelChunk, LevelLightEngine levelLightEngine) {
+		ChunkPos chunkPos = levelChunk.getPos();
+		Supplier<ClientboundLevelChunkPacketData> supplier = ClientboundLevelChunkPacketData.prepare(levelChunk);
+		ClientboundLightUpdatePacketData clientboundLightUpdatePacketData = new ClientboundLightUpdatePacketData(chunkPos, levelLightEngine, null, null);
+		return () -> new ClientboundLevelChunkWithLightPacket(chunkPos, (ClientboundLevelChunkPacketData)supplier.get(), clientboundLightUpdatePacketData);
+	}
+
 	public ClientboundLevelChunkWithLightPacket(FriendlyByteBuf friendlyByteBuf) {
 		this.x = friendlyByteBuf.readInt();
 		this.z = friendlyByteBuf.readInt();
@@ -37,6 +59,18 @@ public class ClientboundLevelChunkWithLightPacket implements Packet<ClientGamePa
 		this.lightData.write(friendlyByteBuf);
 	}
 
+	public void precompress(int i) {
+		if (i >= 0) {
+			this.precompressedFrame = PrecompressedPacket.Frame.encode(this, ConnectionProtocol.PLAY.codec(PacketFlow.CLIENTBOUND).packetId(this), i);
+		}
+	}
+
+	@Nullable
+	@Override
+	public PrecompressedPacket.Frame getPrecompressedFrame() {
+		return this.precompressedFrame;
+	}
+
 	public void handle(ClientGamePacketListener clientGamePacketListener) {
 		clientGamePacketListener.handleLevelChunkWithLight(this);
 	}
@@ -13,6 +13,7 @@ import java.net.Proxy;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
@@ -31,27 +32,43 @@ import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.NbtException;
 import net.minecraft.nbt.ReportedNbtException;
+import net.minecraft.network.Connection;
 import net.minecraft.network.chat.Component;
 import net.minecraft.obfuscate.DontObfuscate;
 import net.minecraft.server.dedicated.DedicatedServer;
 import net.minecraft.server.dedicated.DedicatedServerProperties;
 import net.minecraft.server.dedicated.DedicatedServerSettings;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ChunkPacketCache;
+import net.minecraft.server.level.NearbyEntityQueries;
 import net.minecraft.server.level.progress.LoggerChunkProgressListener;
+import net.minecraft.server.network.PlayerChunkSender;
 import net.minecraft.server.packs.repository.PackRepository;
 import net.minecraft.server.packs.repository.ServerPacksSource;
 import net.minecraft.util.Mth;
 import net.minecraft.util.datafix.DataFixers;
 import net.minecraft.util.profiling.jfr.Environment;
 import net.minecraft.util.profiling.jfr.JvmProfiler;
+import net.minecraft.util.worldupdate.RegionCompressionDictionaryTrainer;
 import net.minecraft.util.worldupdate.WorldUpgrader;
+import net.minecraft.world.entity.ai.goal.GoalSelector;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.flag.FeatureFlags;
 import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelSettings;
 import net.minecraft.world.level.WorldDataConfiguration;
+import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import net.minecraft.world.level.chunk.storage.IOWorker;
+import net.minecraft.world.level.chunk.storage.RegionFile;
+import net.minecraft.world.level.chunk.storage.RegionFileVersion;
 import net.minecraft.world.level.dimension.LevelStem;
+import net.minecraft.world.level.levelgen.DensityFunctionOptimizer;
 import net.minecraft.world.level.levelgen.WorldDimensions;
 import net.minecraft.world.level.levelgen.WorldOptions;
 import net.minecraft.world.level.levelgen.presets.WorldPresets;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.pathfinder.WalkNodeEvaluator;
 import net.minecraft.world.level.storage.LevelDataAndDimensions;
 import net.minecraft.world.level.storage.LevelStorageSource;
 import net.minecraft.world.level.storage.LevelSummary;
@@ -81,6 +98,10 @@ public class Main {
 		OptionSpec<Void> optionSpec13 = optionParser.accepts("jfrProfile");
 		OptionSpec<Path> optionSpec14 = optionParser.accepts("pidFile").withRequiredArg().withValuesConvertedBy(new PathConverter());
 		OptionSpec<String> optionSpec15 = optionParser.nonOptions();
+		OptionSpec<Void> optionSpec16 = optionParser.accepts("recreateRegionFiles", "Rewrites all region files with the configured region-file-compression during --forceUpgrade");
+		OptionSpec<Path> optionSpec17 = optionParser.accepts("trainRegionCompressionDictionary", "Trains a region file compression dictionary from the world and writes it to the given path, then quits")
+			.withRequiredArg()
+			.withValuesConvertedBy(new PathConverter());
 
 		try {
 			OptionSet optionSet = optionParser.parse(strings);
@@ -105,6 +126,27 @@ public class Main {
 			Path path2 = Paths.get("server.properties");
 			DedicatedServerSettings dedicatedServerSettings = new DedicatedServerSettings(path2);
 			dedicatedServerSettings.forceSave();
+			RegionFileVersion.configure(
+				dedicatedServerSettings.getProperties().regionFileCompression, dedicatedServerSettings.getProperties().regionFileCompressionDictionary
+			);
+			RegionFile.configureMemoryMapping(dedicatedServerSettings.getProperties().regionFileMemoryMapping);
+			IOWorker.configureWriteBatchSize(dedicatedServerSettings.getProperties().regionFileWriteBatchSize);
+			ChunkMap.configureParallelEntityUpdates(dedicatedServerSettings.getProperties().entityTrackerParallelUpdates);
+			ChunkPacketCache.configure(dedicatedServerSettings.getProperties().chunkPacketCacheSize);
+			PlayerChunkSender.configureBandwidthWindow(dedicatedServerSettings.getProperties().chunkSendBandwidthWindow);
+			Connection.configureOutboundBatching(
+				dedicatedServerSettings.getProperties().networkWriteBatching, dedicatedServerSettings.getProperties().networkWriteBatchFlushBytes
+			);
+			NearbyEntityQueries.configure(dedicatedServerSettings.getProperties().sharedSensorEntityQueries);
+			HopperBlockEntity.configureEventDriven(dedicatedServerSettings.getProperties().eventDrivenHoppers);
+			GoalSelector.configureCanUseRecheckInterval(dedicatedServerSettings.getProperties().goalSelectorRecheckInterval);
+			WalkNodeEvaluator.configurePathTypeCache(dedicatedServerSettings.getProperties().pathfindingTypeCache);
+			PathNavigation.configureAsyncPathfinding(dedicatedServerSettings.getProperties().asyncPathfinding);
+			MinecraftServer.configureParallelLevelTicking(dedicatedServerSettings.getProperties().parallelDimensionTicking);
+			LevelLightEngine.configureParallelPropagation(dedicatedServerSettings.getProperties().parallelLightPropagation);
+			DensityFunctionOptimizer.configure(
+				dedicatedServerSettings.getProperties().optimizeDensityFunctions, dedicatedServerSettings.getProperties().verifyDensityFunctions
+			);
 			Path path3 = Paths.get("eula.txt");
 			Eula eula = new Eula(path3);
 			if (optionSet.has(optionSpec2)) {
@@ -122,6 +164,11 @@ public class Main {
 			String string = (String)Optional.ofNullable((String)optionSet.valueOf(optionSpec10)).orElse(dedicatedServerSettings.getProperties().levelName);
 			LevelStorageSource levelStorageSource = LevelStorageSource.createDefault(file.toPath());
 			LevelStorageSource.LevelStorageAccess levelStorageAccess = levelStorageSource.validateAndCreateAccess(string);
+			if (optionSet.has(optionSpec17)) {
+				trainRegionCompressionDictionary(levelStorageAccess, optionSet.valueOf(optionSpec17));
+				return;
+			}
+
 			Dynamic<?> dynamic;
 			if (levelStorageAccess.hasWorldData()) {
 				LevelSummary levelSummary;
@@ -225,7 +272,14 @@ public class Main {
 
 			RegistryAccess.Frozen frozen = worldStem.registries().compositeAccess();
 			if (optionSet.has(optionSpec5)) {
-				forceUpgrade(levelStorageAccess, DataFixers.getDataFixer(), optionSet.has(optionSpec6), () -> true, frozen.registryOrThrow(Registries.LEVEL_STEM));
+				forceUpgrade(
+					levelStorageAccess,
+					DataFixers.getDataFixer(),
+					optionSet.has(optionSpec6),
+					optionSet.has(optionSpec16),
+					() -> true,
+					frozen.registryOrThrow(Registries.LEVEL_STEM)
+				);
 			}
 
 			WorldData worldData = worldStem.worldData();
@@ -285,11 +339,31 @@ public class Main {
 		return new WorldLoader.InitConfig(packConfig, Commands.CommandSelection.DEDICATED, dedicatedServerProperties.functionPermissionLevel);
 	}
 
+	private static void trainRegionCompressionDictionary(LevelStorageSource.LevelStorageAccess levelStorageAccess, Path path) {
+		LOGGER.info("Training region file compression dictionary...");
+		List<Path> list = List.of(
+			levelStorageAccess.getDimensionPath(Level.OVERWORLD).resolve("region"),
+			levelStorageAccess.getDimensionPath(Level.NETHER).resolve("region"),
+			levelStorageAccess.getDimensionPath(Level.END).resolve("region")
+		);
+
+		try {
+			RegionCompressionDictionaryTrainer.train(list, path, 4096);
+		} catch (IOException var4) {
+			LOGGER.error("Failed to train region file compression dictionary", var4);
+		}
+	}
+
 	private static void forceUpgrade(
-		LevelStorageSource.LevelStorageAccess levelStorageAccess, DataFixer dataFixer, boolean bl, BooleanSupplier booleanSupplier, Registry<LevelStem> registry
+		LevelStorageSource.LevelStorageAccess levelStorageAccess,
+		DataFixer dataFixer,
+		boolean bl,
+		boolean bl2,
+		BooleanSupplier booleanSupplier,
+		Registry<LevelStem> registry
 	) {
 		LOGGER.info("Forcing world upgrade!");
-		WorldUpgrader worldUpgrader = new WorldUpgrader(levelStorageAccess, dataFixer, registry, bl);
+		WorldUpgrader worldUpgrader = new WorldUpgrader(levelStorageAccess, dataFixer, registry, bl, bl2);
 		Component component = null;
 
 		while(!worldUpgrader.isFinished()) {
@@ -5,6 +5,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Queues;
 import com.google.common.collect.Sets;
 import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.GameProfileRepository;
@@ -36,11 +37,15 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
@@ -108,6 +113,7 @@ import net.minecraft.util.SignatureValidator;
 import net.minecraft.util.TimeUtil;
 import net.minecraft.util.Unit;
 import net.minecraft.util.profiling.EmptyProfileResults;
+import net.minecraft.util.profiling.InactiveProfiler;
 import net.minecraft.util.profiling.ProfileResults;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.util.profiling.ResultField;
@@ -237,6 +243,10 @@ public abstract class MinecraftServer extends ReentrantBlockableEventLoop<TickTa
 	private long nextTickTimeNanos = Util.getNanos();
 	private long delayedTasksMaxNextTickTimeNanos;
 	private boolean mayHaveDelayedTasks;
+	private static volatile boolean parallelLevelTicking;
+	private final Map<ResourceKey<Level>, ExecutorService> levelTickExecutors = Maps.<ResourceKey<Level>, ExecutorService>newHashMap();
+	private final Queue<Runnable> afterLevelTicks = Queues.<Runnable>newConcurrentLinkedQueue();
+	private volatile boolean tickingLevelsInParallel;
 	private final PackRepository packRepository;
 	private final ServerScoreboard scoreboard = new ServerScoreboard(this);
 	@Nullable
@@ -614,6 +624,10 @@ public abstract class MinecraftServer extends ReentrantBlockableEventLoop<TickTa
 
 		this.saveAllChunks(false, true, false);
 
+		for(ExecutorService executorService : this.levelTickExecutors.values()) {
+			executorService.shutdown();
+		}
+
 		for(ServerLevel serverLevel : this.getAllLevels()) {
 			if (serverLevel != null) {
 				try {
@@ -930,27 +944,20 @@ public abstract class MinecraftServer extends ReentrantBlockableEventLoop<TickTa
 		this.profiler.push("commandFunctions");
 		this.getFunctions().tick();
 		this.profiler.popPush("levels");
+		if (parallelLevelTicking && this.levels.size() > 1) {
+			this.tickLevelsInParallel(booleanSupplier);
+		} else {
+			for(ServerLevel serverLevel : this.getAllLevels()) {
+				this.profiler.push((Supplier<String>)(() -> serverLevel + " " + serverLevel.dimension().location()));
+				if (this.tickCount % 20 == 0) {
+					this.profiler.push("timeSync");
+					this.synchronizeTime(serverLevel);
+					this.profiler.pop();
+				}
 
-		for(ServerLevel serverLevel : this.getAllLevels()) {
-			this.profiler.push((Supplier<String>)(() -> serverLevel + " " + serverLevel.dimension().location()));
-			if (this.tickCount % 20 == 0) {
-				this.profiler.push("timeSync");
-				this.synchronizeTime(serverLevel);
+				this.tickLevel(serverLevel, booleanSupplier);
 				this.profiler.pop();
 			}
-
-			this.profiler.push("tick");
-
-			try {
-				serverLevel.tick(booleanSupplier);
-			} catch (Throwable var6) {
-				CrashReport crashReport = CrashReport.forThrowable(var6, "Exception ticking world");
-				serverLevel.fillReportDetails(crashReport);
-				throw new ReportedException(crashReport);
-			}
-
-			this.profiler.pop();
-			this.profiler.pop();
 		}
 
 		this.profiler.popPush("connection");
@@ -977,6 +984,101 @@ public abstract class MinecraftServer extends ReentrantBlockableEventLoop<TickTa
 		this.profiler.pop();
 	}
 
+	private void tickLevel(ServerLevel serverLevel, BooleanSupplier booleanSupplier) {
+		ProfilerFiller profilerFiller = this.getProfiler();
+		profilerFiller.push("tick");
+
+		try {
+			serverLevel.tick(booleanSupplier);
+		} catch (Throwable var5) {
+			CrashReport crashReport = CrashReport.forThrowable(var5, "Exception ticking world");
+			serverLevel.fillReportDetails(crashReport);
+			throw new ReportedException(crashReport);
+		}
+
+		profilerFiller.pop();
+	}
+
+	private void tickLevelsInParallel(BooleanSupplier booleanSupplier) {
+		if (this.tickCount % 20 == 0) {
+			this.profiler.push("timeSync");
+
+			for(ServerLevel serverLevel : this.getAllLevels()) {
+				this.synchronizeTime(serverLevel);
+			}
+
+			this.profiler.pop();
+		}
+
+		List<CompletableFuture<Void>> list = Lists.<CompletableFuture<Void>>newArrayList();
+		ServerLevel serverLevel = this.overworld();
+		this.profiler.push("worldState");
+		serverLevel.tickWorldStateAhead();
+		this.profiler.pop();
+		this.tickingLevelsInParallel = true;
+
+		try {
+			for(ServerLevel serverLevel2 : this.getAllLevels()) {
+				if (serverLevel2 != serverLevel) {
+					ExecutorService executorService = this.levelTickExecutors
+						.computeIfAbsent(serverLevel2.dimension(), resourceKey -> Executors.newSingleThreadExecutor(runnable -> {
+								Thread thread = new Thread(runnable, "Level Tick Worker - " + resourceKey.location());
+								thread.setDaemon(true);
+								return thread;
+							}));
+					list.add(CompletableFuture.runAsync(() -> {
+						serverLevel2.setTickingThread(Thread.currentThread());
+
+						try {
+							this.tickLevel(serverLevel2, booleanSupplier);
+						} finally {
+							serverLevel2.setTickingThread(this.serverThread);
+						}
+					}, executorService));
+				}
+			}
+
+			this.profiler.push((Supplier<String>)(() -> serverLevel + " " + serverLevel.dimension().location()));
+			this.tickLevel(serverLevel, booleanSupplier);
+			this.profiler.popPush("waitForLevels");
+			CompletableFuture.allOf((CompletableFuture[])list.toArray(new CompletableFuture[0])).join();
+			this.profiler.pop();
+		} catch (CompletionException var8) {
+			if (var8.getCause() instanceof ReportedException reportedException) {
+				throw reportedException;
+			}
+
+			throw var8;
+		} finally {
+			this.tickingLevelsInParallel = false;
+		}
+
+		this.profiler.push("merge");
+
+		Runnable runnable;
+		while((runnable = (Runnable)this.afterLevelTicks.poll()) != null) {
+			runnable.run();
+		}
+
+		this.profiler.pop();
+	}
+
+	public static void configureParallelLevelTicking(boolean bl) {
+		parallelLevelTicking = bl;
+	}
+
+	public boolean isTickingLevelsInParallel() {
+		return this.tickingLevelsInParallel;
+	}
+
+	public void executeAfterLevelTicks(Runnable runnable) {
+		if (this.tickingLevelsInParallel) {
+			this.afterLevelTicks.add(runnable);
+		} else {
+			runnable.run();
+		}
+	}
+
 	private void synchronizeTime(ServerLevel serverLevel) {
 		this.playerList
 			.broadcastAll(
@@ -1615,7 +1717,7 @@ public abstract class MinecraftServer extends ReentrantBlockableEventLoop<TickTa
 	}
 
 	public ProfilerFiller getProfiler() {
-		return this.profiler;
+		return (ProfilerFiller)(this.tickingLevelsInParallel && Thread.currentThread() != this.serverThread ? InactiveProfiler.INSTANCE : this.profiler);
 	}
 
 	public abstract boolean isSingleplayerOwner(GameProfile gameProfile);
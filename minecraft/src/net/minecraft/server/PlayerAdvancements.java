@@ -204,11 +204,14 @@ public class PlayerAdvancements {
 			this.progressChanged.add(advancementHolder);
 			bl = true;
 			if (!bl2 && advancementProgress.isDone()) {
-				advancementHolder.value().rewards().grant(this.player);
-				advancementHolder.value().display().ifPresent(displayInfo -> {
-					if (displayInfo.shouldAnnounceChat() && this.player.level().getGameRules().getBoolean(GameRules.RULE_ANNOUNCE_ADVANCEMENTS)) {
-						this.playerList.broadcastSystemMessage(displayInfo.getType().createAnnouncement(advancementHolder, this.player), false);
-					}
+				ServerPlayer serverPlayer = this.player;
+				serverPlayer.server.executeAfterLevelTicks(() -> {
+					advancementHolder.value().rewards().grant(serverPlayer);
+					advancementHolder.value().display().ifPresent(displayInfo -> {
+						if (displayInfo.shouldAnnounceChat() && serverPlayer.level().getGameRules().getBoolean(GameRules.RULE_ANNOUNCE_ADVANCEMENTS)) {
+							this.playerList.broadcastSystemMessage(displayInfo.getType().createAnnouncement(advancementHolder, serverPlayer), false);
+						}
+					});
 				});
 			}
 		}
@@ -14,6 +14,7 @@ import net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket;
 import net.minecraft.network.protocol.game.ClientboundSetScorePacket;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.datafix.DataFixTypes;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.saveddata.SavedData;
 import net.minecraft.world.scores.DisplaySlot;
 import net.minecraft.world.scores.Objective;
@@ -93,7 +94,11 @@ public class ServerScoreboard extends Scoreboard {
 
 	@Override
 	public boolean addPlayerToTeam(String string, PlayerTeam playerTeam) {
-		if (super.addPlayerToTeam(string, playerTeam)) {
+		if (this.server.isTickingLevelsInParallel()) {
+			boolean bl = this.getPlayersTeam(string) != null || !playerTeam.getPlayers().contains(string);
+			this.server.executeAfterLevelTicks(() -> this.addPlayerToTeam(string, playerTeam));
+			return bl;
+		} else if (super.addPlayerToTeam(string, playerTeam)) {
 			this.server.getPlayerList().broadcastAll(ClientboundSetPlayerTeamPacket.createPlayerPacket(playerTeam, string, ClientboundSetPlayerTeamPacket.Action.ADD));
 			this.setDirty();
 			return true;
@@ -102,6 +107,11 @@ public class ServerScoreboard extends Scoreboard {
 		}
 	}
 
+	@Override
+	public void entityRemoved(Entity entity) {
+		this.server.executeAfterLevelTicks(() -> super.entityRemoved(entity));
+	}
+
 	@Override
 	public void removePlayerFromTeam(String string, PlayerTeam playerTeam) {
 		super.removePlayerFromTeam(string, playerTeam);
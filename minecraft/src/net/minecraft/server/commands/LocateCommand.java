@@ -128,6 +128,7 @@ public class LocateCommand {
 		BlockPos blockPos = BlockPos.containing(commandSourceStack.getPosition());
 		ServerLevel serverLevel = commandSourceStack.getLevel();
 		Stopwatch stopwatch = Stopwatch.createStarted(Util.TICKER);
+		serverLevel.getPoiManager().loadInSquare(blockPos, 256);
 		Optional<Pair<Holder<PoiType>, BlockPos>> optional = serverLevel.getPoiManager().findClosestWithType(result, blockPos, 256, PoiManager.Occupancy.ANY);
 		stopwatch.stop();
 		if (optional.isEmpty()) {
@@ -96,6 +96,24 @@ public class DedicatedServerProperties extends Settings<DedicatedServerPropertie
 	public final Settings<DedicatedServerProperties>.MutableValue<Boolean> whiteList = this.getMutable("white-list", false);
 	public final boolean enforceSecureProfile = this.get("enforce-secure-profile", true);
 	public final boolean logIPs = this.get("log-ips", true);
+	public final String regionFileCompression = this.get("region-file-compression", "deflate");
+	public final String regionFileCompressionDictionary = this.get("region-file-compression-dictionary", "");
+	public final boolean regionFileMemoryMapping = this.get("region-file-memory-mapping", false);
+	public final int regionFileWriteBatchSize = this.get("region-file-write-batch-size", integer -> Mth.clamp(integer, 1, 1024), 1);
+	public final boolean entityTrackerParallelUpdates = this.get("entity-tracker-parallel-updates", false);
+	public final int chunkPacketCacheSize = this.get("chunk-packet-cache-size", integer -> Mth.clamp(integer, 0, 65536), 0);
+	public final boolean chunkSendBandwidthWindow = this.get("chunk-send-bandwidth-window", false);
+	public final boolean networkWriteBatching = this.get("network-write-batching", false);
+	public final int networkWriteBatchFlushBytes = this.get("network-write-batch-flush-bytes", integer -> Mth.clamp(integer, 1024, 8388608), 65536);
+	public final boolean sharedSensorEntityQueries = this.get("shared-sensor-entity-queries", false);
+	public final boolean eventDrivenHoppers = this.get("event-driven-hoppers", false);
+	public final int goalSelectorRecheckInterval = this.get("goal-selector-recheck-interval", integer -> Mth.clamp(integer, 1, 20), 1);
+	public final boolean pathfindingTypeCache = this.get("pathfinding-type-cache", false);
+	public final boolean asyncPathfinding = this.get("async-pathfinding", false);
+	public final boolean parallelDimensionTicking = this.get("parallel-dimension-ticking", false);
+	public final boolean parallelLightPropagation = this.get("parallel-light-propagation", false);
+	public final boolean optimizeDensityFunctions = this.get("optimize-density-functions", false);
+	public final boolean verifyDensityFunctions = this.get("verify-density-functions", false);
 	private final DedicatedServerProperties.WorldDimensionData worldDimensionData;
 	public final WorldOptions worldOptions;
 
@@ -20,11 +20,17 @@ import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap.Entry;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.Path;
@@ -41,6 +47,9 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -107,6 +116,16 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 	public static final int MIN_VIEW_DISTANCE = 2;
 	public static final int MAX_VIEW_DISTANCE = 32;
 	public static final int FORCED_TICKET_LEVEL = ChunkLevel.byStatus(FullChunkStatus.ENTITY_TICKING);
+	private static final int PARALLEL_ENTITY_UPDATE_BATCH_SIZE = 256;
+	private static final AtomicInteger ENTITY_UPDATE_THREAD_ID = new AtomicInteger(1);
+	private static final ExecutorService ENTITY_UPDATE_EXECUTOR = Executors.newFixedThreadPool(
+		Mth.clamp(Runtime.getRuntime().availableProcessors() / 2, 1, 4), runnable -> {
+			Thread thread = new Thread(runnable, "Entity-Tracker-" + ENTITY_UPDATE_THREAD_ID.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	);
+	private static volatile boolean parallelEntityUpdates;
 	private final Long2ObjectLinkedOpenHashMap<ChunkHolder> updatingChunkMap = new Long2ObjectLinkedOpenHashMap<>();
 	private volatile Long2ObjectLinkedOpenHashMap<ChunkHolder> visibleChunkMap = this.updatingChunkMap.clone();
 	private final Long2ObjectLinkedOpenHashMap<ChunkHolder> pendingUnloads = new Long2ObjectLinkedOpenHashMap<>();
@@ -119,6 +138,7 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 	private final ChunkGeneratorStructureState chunkGeneratorState;
 	private final Supplier<DimensionDataStorage> overworldDataStorage;
 	private final PoiManager poiManager;
+	private final ChunkPacketCache chunkPacketCache;
 	final LongSet toDrop = new LongOpenHashSet();
 	private boolean modified;
 	private final ChunkTaskPriorityQueueSorter queueSorter;
@@ -132,6 +152,8 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 	private final String storageName;
 	private final PlayerMap playerMap = new PlayerMap();
 	private final Int2ObjectMap<ChunkMap.TrackedEntity> entityMap = new Int2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<Set<ChunkMap.TrackedEntity>> entitiesByChunk = new Long2ObjectOpenHashMap<>();
+	private final Map<ServerPlayer, Set<ChunkMap.TrackedEntity>> entitiesSeenByPlayer = new Reference2ObjectOpenHashMap<>();
 	private final Long2ByteMap chunkTypeCache = new Long2ByteOpenHashMap();
 	private final Long2LongMap chunkSaveCooldowns = new Long2LongOpenHashMap();
 	private final Queue<Runnable> unloadQueue = Queues.newConcurrentLinkedQueue();
@@ -184,6 +206,7 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 		this.distanceManager = new ChunkMap.DistanceManager(executor, blockableEventLoop);
 		this.overworldDataStorage = supplier;
 		this.poiManager = new PoiManager(path.resolve("poi"), dataFixer, bl, registryAccess, serverLevel);
+		this.chunkPacketCache = new ChunkPacketCache(this.lightEngine, serverLevel.getServer()::getCompressionThreshold, Util.backgroundExecutor());
 		this.setServerViewDistance(i);
 	}
 
@@ -519,20 +542,12 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 			if (completableFuture2 != completableFuture) {
 				this.scheduleUnload(l, chunkHolder);
 			} else {
-				if (this.pendingUnloads.remove(l, chunkHolder) && chunkAccess != null) {
-					if (chunkAccess instanceof LevelChunk) {
-						((LevelChunk)chunkAccess).setLoaded(false);
-					}
-
-					this.save(chunkAccess);
-					if (this.entitiesInLevel.remove(l) && chunkAccess instanceof LevelChunk levelChunk) {
-						this.level.unload(levelChunk);
-					}
-
-					this.lightEngine.updateChunkStatus(chunkAccess.getPos());
-					this.lightEngine.tryScheduleUpdate();
-					this.progressListener.onStatusChange(chunkAccess.getPos(), null);
-					this.chunkSaveCooldowns.remove(chunkAccess.getPos().toLong());
+				CompletableFuture<?> completableFuture3 = chunkAccess != null && this.pendingUnloads.get(l) == chunkHolder ? this.save(chunkAccess, true) : null;
+				if (completableFuture3 != null && !completableFuture3.isDone()) {
+					completableFuture3.handle((object, throwable) -> throwable == null)
+						.thenAcceptAsync(boolean_ -> this.finishUnload(l, chunkHolder, chunkAccess, boolean_), this.unloadQueue::add);
+				} else {
+					this.finishUnload(l, chunkHolder, chunkAccess, completableFuture3 == null || !completableFuture3.isCompletedExceptionally());
 				}
 			}
 		}, this.unloadQueue::add).whenComplete((void_, throwable) -> {
@@ -542,6 +557,30 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 		});
 	}
 
+	private void finishUnload(long l, ChunkHolder chunkHolder, @Nullable ChunkAccess chunkAccess, boolean bl) {
+		if (this.pendingUnloads.remove(l, chunkHolder) && chunkAccess != null) {
+			if (chunkAccess instanceof LevelChunk) {
+				((LevelChunk)chunkAccess).setLoaded(false);
+				this.chunkPacketCache.invalidate(l);
+			}
+
+			if (!bl) {
+				LOGGER.warn("Saving chunk {} synchronously after its asynchronous save failed", chunkAccess.getPos());
+				chunkAccess.setUnsaved(true);
+			}
+
+			this.save(chunkAccess, false);
+			if (this.entitiesInLevel.remove(l) && chunkAccess instanceof LevelChunk levelChunk) {
+				this.level.unload(levelChunk);
+			}
+
+			this.lightEngine.updateChunkStatus(chunkAccess.getPos());
+			this.lightEngine.tryScheduleUpdate();
+			this.progressListener.onStatusChange(chunkAccess.getPos(), null);
+			this.chunkSaveCooldowns.remove(chunkAccess.getPos().toLong());
+		}
+	}
+
 	protected boolean promoteChunkMap() {
 		if (!this.modified) {
 			return false;
@@ -577,7 +616,8 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 	}
 
 	private CompletableFuture<Either<ChunkAccess, ChunkHolder.ChunkLoadingFailure>> scheduleChunkLoad(ChunkPos chunkPos) {
-		return this.readChunk(chunkPos).thenApply(optional -> optional.filter(compoundTag -> {
+		CompletableFuture<?> completableFuture = this.poiManager.prefetch(chunkPos).handle((object, throwable) -> null);
+		return this.readChunk(chunkPos).thenCombine(completableFuture, (optional, object) -> optional).thenApply(optional -> optional.filter(compoundTag -> {
 				boolean bl = isChunkDataValid(compoundTag);
 				if (!bl) {
 					LOGGER.error("Chunk file at {} is missing level data, skipping", chunkPos);
@@ -593,7 +633,9 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 			} else {
 				return Either.left(this.createEmptyChunk(chunkPos));
 			}
-		}, this.mainThreadExecutor).exceptionallyAsync(throwable -> this.handleChunkLoadFailure(throwable, chunkPos), this.mainThreadExecutor);
+		}, this.mainThreadExecutor)
+			.exceptionallyAsync(throwable -> this.handleChunkLoadFailure(throwable, chunkPos), this.mainThreadExecutor)
+			.whenComplete((either, throwable) -> this.poiManager.cancelPrefetch(chunkPos));
 	}
 
 	private static boolean isChunkDataValid(CompoundTag compoundTag) {
@@ -807,9 +849,14 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 	}
 
 	private boolean save(ChunkAccess chunkAccess) {
+		return this.save(chunkAccess, true) != null;
+	}
+
+	@Nullable
+	private CompletableFuture<?> save(ChunkAccess chunkAccess, boolean bl) {
 		this.poiManager.flush(chunkAccess.getPos());
 		if (!chunkAccess.isUnsaved()) {
-			return false;
+			return null;
 		} else {
 			chunkAccess.setUnsaved(false);
 			ChunkPos chunkPos = chunkAccess.getPos();
@@ -818,22 +865,36 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 				ChunkStatus chunkStatus = chunkAccess.getStatus();
 				if (chunkStatus.getChunkType() != ChunkStatus.ChunkType.LEVELCHUNK) {
 					if (this.isExistingChunkFull(chunkPos)) {
-						return false;
+						return null;
 					}
 
 					if (chunkStatus == ChunkStatus.EMPTY && chunkAccess.getAllStarts().values().stream().noneMatch(StructureStart::isValid)) {
-						return false;
+						return null;
 					}
 				}
 
 				this.level.getProfiler().incrementCounter("chunkSave");
-				CompoundTag compoundTag = ChunkSerializer.write(this.level, chunkAccess);
-				this.write(chunkPos, compoundTag);
+				ChunkSerializer.AsyncSaveData asyncSaveData = ChunkSerializer.prepareWrite(this.level, chunkAccess);
+				CompletableFuture<?> completableFuture;
+				if (bl) {
+					completableFuture = this.write(chunkPos, () -> {
+						try {
+							return asyncSaveData.write();
+						} catch (Exception var4) {
+							LOGGER.error("Failed to save chunk {},{}", chunkPos.x, chunkPos.z, var4);
+							throw var4;
+						}
+					});
+				} else {
+					this.write(chunkPos, asyncSaveData.write());
+					completableFuture = CompletableFuture.completedFuture(null);
+				}
+
 				this.markPosition(chunkPos, chunkStatus.getChunkType());
-				return true;
-			} catch (Exception var5) {
-				LOGGER.error("Failed to save chunk {},{}", chunkPos.x, chunkPos.z, var5);
-				return false;
+				return completableFuture;
+			} catch (Exception var6) {
+				LOGGER.error("Failed to save chunk {},{}", chunkPos.x, chunkPos.z, var6);
+				return null;
 			}
 		}
 	}
@@ -1051,15 +1112,18 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 		serverPlayer.setLastSectionPos(sectionPos);
 	}
 
+	public static void configureParallelEntityUpdates(boolean bl) {
+		parallelEntityUpdates = bl;
+	}
+
 	public void move(ServerPlayer serverPlayer) {
-		for(ChunkMap.TrackedEntity trackedEntity : this.entityMap.values()) {
-			if (trackedEntity.entity == serverPlayer) {
-				trackedEntity.updatePlayers(this.level.players());
-			} else {
-				trackedEntity.updatePlayer(serverPlayer);
-			}
+		ChunkMap.TrackedEntity trackedEntity = this.entityMap.get(serverPlayer.getId());
+		if (trackedEntity != null && trackedEntity.entity == serverPlayer) {
+			trackedEntity.updatePlayers(this.level.players());
 		}
 
+		this.updateEntitiesForPlayer(serverPlayer);
+
 		SectionPos sectionPos = serverPlayer.getLastSectionPos();
 		SectionPos sectionPos2 = SectionPos.of(serverPlayer);
 		boolean bl = this.playerMap.ignored(serverPlayer);
@@ -1138,15 +1202,11 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 				} else {
 					ChunkMap.TrackedEntity trackedEntity = new ChunkMap.TrackedEntity(entity, i, j, entityType.trackDeltas());
 					this.entityMap.put(entity.getId(), trackedEntity);
+					this.indexEntity(trackedEntity, trackedEntity.lastSectionPos);
 					trackedEntity.updatePlayers(this.level.players());
 					if (entity instanceof ServerPlayer serverPlayer) {
 						this.updatePlayerStatus(serverPlayer, true);
-
-						for(ChunkMap.TrackedEntity trackedEntity2 : this.entityMap.values()) {
-							if (trackedEntity2.entity != serverPlayer) {
-								trackedEntity2.updatePlayer(serverPlayer);
-							}
-						}
+						this.updateEntitiesForPlayer(serverPlayer);
 					}
 				}
 			}
@@ -1156,18 +1216,80 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 	protected void removeEntity(Entity entity) {
 		if (entity instanceof ServerPlayer serverPlayer) {
 			this.updatePlayerStatus(serverPlayer, false);
-
-			for(ChunkMap.TrackedEntity trackedEntity : this.entityMap.values()) {
-				trackedEntity.removePlayer(serverPlayer);
+			Set<ChunkMap.TrackedEntity> set = this.entitiesSeenByPlayer.remove(serverPlayer);
+			if (set != null) {
+				for(ChunkMap.TrackedEntity trackedEntity : set) {
+					trackedEntity.removePlayer(serverPlayer);
+				}
 			}
 		}
 
 		ChunkMap.TrackedEntity trackedEntity2 = this.entityMap.remove(entity.getId());
 		if (trackedEntity2 != null) {
+			this.unindexEntity(trackedEntity2, trackedEntity2.lastSectionPos);
 			trackedEntity2.broadcastRemoved();
 		}
 	}
 
+	private void indexEntity(ChunkMap.TrackedEntity trackedEntity, SectionPos sectionPos) {
+		this.entitiesByChunk.computeIfAbsent(ChunkPos.asLong(sectionPos.x(), sectionPos.z()), l -> new ObjectLinkedOpenHashSet()).add(trackedEntity);
+	}
+
+	private void unindexEntity(ChunkMap.TrackedEntity trackedEntity, SectionPos sectionPos) {
+		long l = ChunkPos.asLong(sectionPos.x(), sectionPos.z());
+		Set<ChunkMap.TrackedEntity> set = this.entitiesByChunk.get(l);
+		if (set != null && set.remove(trackedEntity) && set.isEmpty()) {
+			this.entitiesByChunk.remove(l);
+		}
+	}
+
+	void onEntitySeen(ChunkMap.TrackedEntity trackedEntity, ServerPlayer serverPlayer) {
+		this.entitiesSeenByPlayer.computeIfAbsent(serverPlayer, serverPlayerx -> new ReferenceOpenHashSet()).add(trackedEntity);
+	}
+
+	void onEntityUnseen(ChunkMap.TrackedEntity trackedEntity, ServerPlayer serverPlayer) {
+		Set<ChunkMap.TrackedEntity> set = this.entitiesSeenByPlayer.get(serverPlayer);
+		if (set != null && set.remove(trackedEntity) && set.isEmpty()) {
+			this.entitiesSeenByPlayer.remove(serverPlayer);
+		}
+	}
+
+	private void updateEntitiesForPlayer(ServerPlayer serverPlayer) {
+		Set<ChunkMap.TrackedEntity> set = (Set)this.entitiesSeenByPlayer.getOrDefault(serverPlayer, Set.of());
+		List<ChunkMap.TrackedEntity> list = new ArrayList(set);
+		ChunkTrackingView chunkTrackingView = serverPlayer.getChunkTrackingView();
+		if (chunkTrackingView instanceof ChunkTrackingView.Positioned positioned) {
+			int i = positioned.viewDistance() * 2 + 3;
+			if (this.entitiesByChunk.size() < i * i) {
+				for(Entry<Set<ChunkMap.TrackedEntity>> entry : Long2ObjectMaps.fastIterable(this.entitiesByChunk)) {
+					long l = entry.getLongKey();
+					if (chunkTrackingView.contains(ChunkPos.getX(l), ChunkPos.getZ(l))) {
+						collectUntracked(entry.getValue(), set, list);
+					}
+				}
+			} else {
+				chunkTrackingView.forEach(chunkPos -> {
+					Set<ChunkMap.TrackedEntity> set2 = this.entitiesByChunk.get(chunkPos.toLong());
+					if (set2 != null) {
+						collectUntracked(set2, set, list);
+					}
+				});
+			}
+		}
+
+		for(ChunkMap.TrackedEntity trackedEntity : list) {
+			trackedEntity.updatePlayer(serverPlayer);
+		}
+	}
+
+	private static void collectUntracked(Set<ChunkMap.TrackedEntity> set, Set<ChunkMap.TrackedEntity> set2, List<ChunkMap.TrackedEntity> list) {
+		for(ChunkMap.TrackedEntity trackedEntity : set) {
+			if (!set2.contains(trackedEntity)) {
+				list.add(trackedEntity);
+			}
+		}
+	}
+
 	protected void tick() {
 		for(ServerPlayer serverPlayer : this.playerMap.getAllPlayers()) {
 			this.updateChunkTracking(serverPlayer);
@@ -1175,6 +1297,7 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 
 		List<ServerPlayer> list = Lists.<ServerPlayer>newArrayList();
 		List<ServerPlayer> list2 = this.level.players();
+		List<ServerEntity> list3 = Lists.<ServerEntity>newArrayList();
 
 		for(ChunkMap.TrackedEntity trackedEntity : this.entityMap.values()) {
 			SectionPos sectionPos = trackedEntity.lastSectionPos;
@@ -1187,21 +1310,65 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 					list.add((ServerPlayer)entity);
 				}
 
+				if (sectionPos.x() != sectionPos2.x() || sectionPos.z() != sectionPos2.z()) {
+					this.unindexEntity(trackedEntity, sectionPos);
+					this.indexEntity(trackedEntity, sectionPos2);
+				}
+
 				trackedEntity.lastSectionPos = sectionPos2;
 			}
 
 			if (bl || this.distanceManager.inEntityTickingRange(sectionPos2.chunk().toLong())) {
-				trackedEntity.serverEntity.sendChanges();
+				list3.add(trackedEntity.serverEntity);
 			}
 		}
 
-		if (!list.isEmpty()) {
-			for(ChunkMap.TrackedEntity trackedEntity : this.entityMap.values()) {
-				trackedEntity.updatePlayers(list);
+		this.sendEntityChanges(list3);
+
+		for(ServerPlayer serverPlayer : list) {
+			this.updateEntitiesForPlayer(serverPlayer);
+		}
+	}
+
+	private void sendEntityChanges(List<ServerEntity> list) {
+		if (parallelEntityUpdates && list.size() > 256) {
+			List<ChunkMap.CollectChangesTask> list2 = new ArrayList();
+			List<ServerEntity> list3 = new ArrayList();
+
+			for(ServerEntity serverEntity : list) {
+				if (serverEntity.canCollectChangesOffThread()) {
+					list3.add(serverEntity);
+					if (list3.size() >= 256) {
+						list2.add(collectChangesAsync(list3));
+						list3 = new ArrayList();
+					}
+				}
+			}
+
+			if (!list3.isEmpty()) {
+				list2.add(collectChangesAsync(list3));
+			}
+
+			for(ChunkMap.CollectChangesTask collectChangesTask : list2) {
+				collectChangesTask.run();
 			}
+
+			for(ChunkMap.CollectChangesTask collectChangesTask : list2) {
+				collectChangesTask.future.join();
+			}
+		}
+
+		for(ServerEntity serverEntity : list) {
+			serverEntity.sendChanges();
 		}
 	}
 
+	private static ChunkMap.CollectChangesTask collectChangesAsync(List<ServerEntity> list) {
+		ChunkMap.CollectChangesTask collectChangesTask = new ChunkMap.CollectChangesTask(list);
+		ENTITY_UPDATE_EXECUTOR.execute(collectChangesTask);
+		return collectChangesTask;
+	}
+
 	public void broadcast(Entity entity, Packet<?> packet) {
 		ChunkMap.TrackedEntity trackedEntity = this.entityMap.get(entity.getId());
 		if (trackedEntity != null) {
@@ -1221,6 +1388,7 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 
 		for(ChunkAccess chunkAccess : list) {
 			ChunkPos chunkPos = chunkAccess.getPos();
+			this.chunkPacketCache.invalidate(chunkPos);
 			LevelChunk levelChunk2;
 			if (chunkAccess instanceof LevelChunk levelChunk) {
 				levelChunk2 = levelChunk;
@@ -1236,6 +1404,10 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 		map.forEach((serverPlayerx, listx) -> serverPlayerx.connection.send(ClientboundChunksBiomesPacket.forChunks(listx)));
 	}
 
+	public ChunkPacketCache getChunkPacketCache() {
+		return this.chunkPacketCache;
+	}
+
 	protected PoiManager getPoiManager() {
 		return this.poiManager;
 	}
@@ -1258,6 +1430,30 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 		});
 	}
 
+	static class CollectChangesTask implements Runnable {
+		private final List<ServerEntity> entities;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		final CompletableFuture<Void> future = new CompletableFuture();
+
+		CollectChangesTask(List<ServerEntity> list) {
+			this.entities = list;
+		}
+
+		public void run() {
+			if (this.claimed.compareAndSet(false, true)) {
+				try {
+					for(ServerEntity serverEntity : this.entities) {
+						serverEntity.collectChanges();
+					}
+
+					this.future.complete(null);
+				} catch (Throwable var3) {
+					this.future.completeExceptionally(var3);
+				}
+			}
+		}
+	}
+
 	class DistanceManager extends net.minecraft.server.level.DistanceManager {
 		protected DistanceManager(Executor executor, Executor executor2) {
 			super(executor, executor2);
@@ -1322,12 +1518,14 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 
 		public void broadcastRemoved() {
 			for(ServerPlayerConnection serverPlayerConnection : this.seenBy) {
+				ChunkMap.this.onEntityUnseen(this, serverPlayerConnection.getPlayer());
 				this.serverEntity.removePairing(serverPlayerConnection.getPlayer());
 			}
 		}
 
 		public void removePlayer(ServerPlayer serverPlayer) {
 			if (this.seenBy.remove(serverPlayer.connection)) {
+				ChunkMap.this.onEntityUnseen(this, serverPlayer);
 				this.serverEntity.removePairing(serverPlayer);
 			}
 		}
@@ -1344,9 +1542,11 @@ public class ChunkMap extends ChunkStorage implements ChunkHolder.PlayerProvider
 					&& ChunkMap.this.isChunkTracked(serverPlayer, this.entity.chunkPosition().x, this.entity.chunkPosition().z);
 				if (bl) {
 					if (this.seenBy.add(serverPlayer.connection)) {
+						ChunkMap.this.onEntitySeen(this, serverPlayer);
 						this.serverEntity.addPairing(serverPlayer);
 					}
 				} else if (this.seenBy.remove(serverPlayer.connection)) {
+					ChunkMap.this.onEntityUnseen(this, serverPlayer);
 					this.serverEntity.removePairing(serverPlayer);
 				}
 			}
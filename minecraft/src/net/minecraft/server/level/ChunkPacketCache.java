@@ -0,0 +1,121 @@
+package net.minecraft.server.level;
+
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import org.slf4j.Logger;
+
+public class ChunkPacketCache {
+	private static final Logger LOGGER = LogUtils.getLogger();
+	private static volatile int maxSize;
+	private final Long2ObjectLinkedOpenHashMap<ChunkPacketCache.Entry> entries = new Long2ObjectLinkedOpenHashMap<>();
+	private final LevelLightEngine lightEngine;
+	private final IntSupplier compressionThreshold;
+	private final Executor executor;
+
+	public ChunkPacketCache(LevelLightEngine levelLightEngine, IntSupplier intSupplier, Executor executor) {
+		this.lightEngine = levelLightEngine;
+		this.compressionThreshold = intSupplier;
+		this.executor = executor;
+	}
+
+	public static void configure(int i) {
+		maxSize = i;
+	}
+
+	public static boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	public ChunkPacketCache.Entry getOrCreate(LevelChunk levelChunk) {
+		long l = levelChunk.getPos().toLong();
+		ChunkPacketCache.Entry entry = this.entries.getAndMoveToLast(l);
+		if (entry != null && entry.isCurrent(levelChunk)) {
+			return entry;
+		} else {
+			Supplier<ClientboundLevelChunkWithLightPacket> supplier = ClientboundLevelChunkWithLightPacket.prepare(levelChunk, this.lightEngine);
+			int i = this.compressionThreshold.getAsInt();
+			CompletableFuture<ClientboundLevelChunkWithLightPacket> completableFuture = CompletableFuture.supplyAsync(() -> {
+				ClientboundLevelChunkWithLightPacket clientboundLevelChunkWithLightPacket = (ClientboundLevelChunkWithLightPacket)supplier.get();
+				clientboundLevelChunkWithLightPacket.precompress(i);
+				return clientboundLevelChunkWithLightPacket;
+			}, this.executor);
+			ChunkPacketCache.Entry entry2 = new ChunkPacketCache.Entry(levelChunk, levelChunk.getBlockChangeCount(), completableFuture);
+			if (entry != null) {
+				entry.invalidated = true;
+			}
+
+			this.entries.putAndMoveToLast(l, entry2);
+
+			while(this.entries.size() > Math.max(maxSize, 1)) {
+				this.entries.removeFirst().invalidated = true;
+			}
+
+			return entry2;
+		}
+	}
+
+	public void invalidate(ChunkPos chunkPos) {
+		this.invalidate(chunkPos.toLong());
+	}
+
+	public void invalidate(long l) {
+		if (!this.entries.isEmpty()) {
+			ChunkPacketCache.Entry entry = this.entries.remove(l);
+			if (entry != null) {
+				entry.invalidated = true;
+			}
+		}
+	}
+
+	public void clear() {
+		for(ChunkPacketCache.Entry entry : this.entries.values()) {
+			entry.invalidated = true;
+		}
+
+		this.entries.clear();
+	}
+
+	public static class Entry {
+		private final LevelChunk chunk;
+		private final int blockChangeCount;
+		private final CompletableFuture<ClientboundLevelChunkWithLightPacket> packet;
+		boolean invalidated;
+
+		Entry(LevelChunk levelChunk, int i, CompletableFuture<ClientboundLevelChunkWithLightPacket> completableFuture) {
+			this.chunk = levelChunk;
+			this.blockChangeCount = i;
+			this.packet = completableFuture;
+		}
+
+		public boolean isCurrent(LevelChunk levelChunk) {
+			return !this.invalidated && this.chunk == levelChunk && this.blockChangeCount == levelChunk.getBlockChangeCount();
+		}
+
+		public LevelChunk getChunk() {
+			return this.chunk;
+		}
+
+		public boolean isDone() {
+			return this.packet.isDone();
+		}
+
+		@Nullable
+		public ClientboundLevelChunkWithLightPacket getPacket() {
+			try {
+				return (ClientboundLevelChunkWithLightPacket)this.packet.join();
+			} catch (RuntimeException var2) {
+				LOGGER.error("Failed to encode chunk packet for {}", this.chunk.getPos(), var2);
+				return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package net.minecraft.server.level;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.AABB;
+
+public class NearbyEntityQueries {
+	private static volatile boolean enabled;
+	private final ServerLevel level;
+	private final Map<NearbyEntityQueries.Key, List<? extends Entity>> candidates = Maps.newHashMap();
+
+	public NearbyEntityQueries(ServerLevel serverLevel) {
+		this.level = serverLevel;
+	}
+
+	public static void configure(boolean bl) {
+		enabled = bl;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public <T extends Entity> List<T> getEntitiesOfClass(Class<T> class_, Entity entity, AABB aABB, Predicate<? super T> predicate) {
+		if (!enabled) {
+			return this.level.getEntitiesOfClass(class_, aABB, predicate);
+		} else {
+			NearbyEntityQueries.Key key = NearbyEntityQueries.Key.of(class_, entity, aABB);
+			List<T> list = (List)this.candidates
+				.computeIfAbsent(key, keyx -> this.level.getEntitiesOfClass(class_, keyx.bounds(), entityx -> keyx.contains(SectionPos.asLong(entityx.blockPosition()))));
+			int i = SectionPos.posToSectionCoord(aABB.minX - 2.0);
+			int j = SectionPos.posToSectionCoord(aABB.minY - 4.0);
+			int k = SectionPos.posToSectionCoord(aABB.minZ - 2.0);
+			int l = SectionPos.posToSectionCoord(aABB.maxX + 2.0);
+			int m = SectionPos.posToSectionCoord(aABB.maxY + 0.0);
+			int n = SectionPos.posToSectionCoord(aABB.maxZ + 2.0);
+			List<T> list2 = Lists.<T>newArrayList();
+
+			for(T entity2 : list) {
+				if (!entity2.isRemoved()) {
+					BlockPos blockPos = entity2.blockPosition();
+					int o = SectionPos.blockToSectionCoord(blockPos.getX());
+					int p = SectionPos.blockToSectionCoord(blockPos.getY());
+					int q = SectionPos.blockToSectionCoord(blockPos.getZ());
+					if (o >= i && o <= l && p >= j && p <= m && q >= k && q <= n && entity2.getBoundingBox().intersects(aABB) && predicate.test(entity2)) {
+						list2.add(entity2);
+					}
+				}
+			}
+
+			return list2;
+		}
+	}
+
+	public void onSectionChange(Entity entity) {
+		if (!this.candidates.isEmpty()) {
+			long l = SectionPos.asLong(entity.blockPosition());
+			this.candidates.keySet().removeIf(key -> key.contains(l));
+		}
+	}
+
+	public void clear() {
+		if (!this.candidates.isEmpty()) {
+			this.candidates.clear();
+		}
+	}
+
+	static record Key(Class<?> type, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+		static NearbyEntityQueries.Key of(Class<?> class_, Entity entity, AABB aABB) {
+			int i = SectionPos.sectionToBlockCoord(SectionPos.posToSectionCoord(entity.getX()));
+			int j = SectionPos.sectionToBlockCoord(SectionPos.posToSectionCoord(entity.getY()));
+			int k = SectionPos.sectionToBlockCoord(SectionPos.posToSectionCoord(entity.getZ()));
+			return new NearbyEntityQueries.Key(
+				class_,
+				SectionPos.posToSectionCoord((double)(i - Mth.ceil(entity.getX() - aABB.minX)) - 2.0),
+				SectionPos.posToSectionCoord((double)(j - Mth.ceil(entity.getY() - aABB.minY)) - 4.0),
+				SectionPos.posToSectionCoord((double)(k - Mth.ceil(entity.getZ() - aABB.minZ)) - 2.0),
+				SectionPos.posToSectionCoord((double)(i + 16 + Mth.ceil(aABB.maxX - entity.getX())) + 2.0),
+				SectionPos.posToSectionCoord((double)(j + 16 + Mth.ceil(aABB.maxY - entity.getY())) + 0.0),
+				SectionPos.posToSectionCoord((double)(k + 16 + Mth.ceil(aABB.maxZ - entity.getZ())) + 2.0)
+			);
+		}
+
+		boolean contains(long l) {
+			int i = SectionPos.x(l);
+			int j = SectionPos.y(l);
+			int k = SectionPos.z(l);
+			return i >= this.minX && i <= this.maxX && j >= this.minY && j <= this.maxY && k >= this.minZ && k <= this.maxZ;
+		}
+
+		AABB bounds() {
+			return new AABB(
+				(double)SectionPos.sectionToBlockCoord(this.minX),
+				(double)SectionPos.sectionToBlockCoord(this.minY),
+				(double)SectionPos.sectionToBlockCoord(this.minZ),
+				(double)SectionPos.sectionToBlockCoord(this.maxX + 1),
+				(double)SectionPos.sectionToBlockCoord(this.maxY + 1),
+				(double)SectionPos.sectionToBlockCoord(this.maxZ + 1)
+			);
+		}
+	}
+}
@@ -49,7 +49,7 @@ public class ServerChunkCache extends ChunkSource {
 	private static final List<ChunkStatus> CHUNK_STATUSES = ChunkStatus.getStatusList();
 	private final DistanceManager distanceManager;
 	final ServerLevel level;
-	final Thread mainThread;
+	Thread mainThread;
 	final ThreadedLevelLightEngine lightEngine;
 	private final ServerChunkCache.MainThreadExecutor mainThreadProcessor;
 	public final ChunkMap chunkMap;
@@ -437,7 +437,9 @@ public class ServerChunkCache extends ChunkSource {
 	public void blockChanged(BlockPos blockPos) {
 		int i = SectionPos.blockToSectionCoord(blockPos.getX());
 		int j = SectionPos.blockToSectionCoord(blockPos.getZ());
-		ChunkHolder chunkHolder = this.getVisibleChunkIfPresent(ChunkPos.asLong(i, j));
+		long l = ChunkPos.asLong(i, j);
+		this.chunkMap.getChunkPacketCache().invalidate(l);
+		ChunkHolder chunkHolder = this.getVisibleChunkIfPresent(l);
 		if (chunkHolder != null) {
 			chunkHolder.blockChanged(blockPos);
 		}
@@ -446,6 +448,7 @@ public class ServerChunkCache extends ChunkSource {
 	@Override
 	public void onLightUpdate(LightLayer lightLayer, SectionPos sectionPos) {
 		this.mainThreadProcessor.execute(() -> {
+			this.chunkMap.getChunkPacketCache().invalidate(sectionPos.chunk().toLong());
 			ChunkHolder chunkHolder = this.getVisibleChunkIfPresent(sectionPos.chunk().toLong());
 			if (chunkHolder != null) {
 				chunkHolder.sectionLightChanged(lightLayer, sectionPos.y());
@@ -63,6 +63,8 @@ public class ServerEntity {
 	private boolean wasOnGround;
 	@Nullable
 	private List<SynchedEntityData.DataValue<?>> trackedDataValues;
+	@Nullable
+	private volatile List<Packet<?>> collectedChanges;
 
 	public ServerEntity(ServerLevel serverLevel, Entity entity, int i, boolean bl, Consumer<Packet<?>> consumer) {
 		this.level = serverLevel;
@@ -78,10 +80,30 @@ public class ServerEntity {
 		this.trackedDataValues = entity.getEntityData().getNonDefaultValues();
 	}
 
+	public boolean canCollectChangesOffThread() {
+		return !(this.entity instanceof ItemFrame) && !(this.entity instanceof ServerPlayer) && this.entity.getPassengers().equals(this.lastPassengers);
+	}
+
+	public void collectChanges() {
+		List<Packet<?>> list = new ArrayList();
+		this.sendChanges(list::add);
+		this.collectedChanges = list;
+	}
+
 	public void sendChanges() {
+		List<Packet<?>> list = this.collectedChanges;
+		if (list != null) {
+			this.collectedChanges = null;
+			list.forEach(this.broadcast);
+		} else {
+			this.sendChanges(this.broadcast);
+		}
+	}
+
+	private void sendChanges(Consumer<Packet<?>> consumer) {
 		List<Entity> list = this.entity.getPassengers();
 		if (!list.equals(this.lastPassengers)) {
-			this.broadcast.accept(new ClientboundSetPassengersPacket(this.entity));
+			consumer.accept(new ClientboundSetPassengersPacket(this.entity));
 			removedPassengers(list, this.lastPassengers).forEach(entity -> {
 				if (entity instanceof ServerPlayer serverPlayer) {
 					serverPlayer.connection.teleport(serverPlayer.getX(), serverPlayer.getY(), serverPlayer.getZ(), serverPlayer.getYRot(), serverPlayer.getXRot());
@@ -107,7 +129,7 @@ public class ServerEntity {
 				}
 			}
 
-			this.sendDirtyEntityData();
+			this.sendDirtyEntityData(consumer);
 		}
 
 		if (this.tickCount % this.updateInterval == 0 || this.entity.hasImpulse || this.entity.getEntityData().isDirty()) {
@@ -116,13 +138,13 @@ public class ServerEntity {
 				int j = Mth.floor(this.entity.getXRot() * 256.0F / 360.0F);
 				boolean bl = Math.abs(i - this.yRotp) >= 1 || Math.abs(j - this.xRotp) >= 1;
 				if (bl) {
-					this.broadcast.accept(new ClientboundMoveEntityPacket.Rot(this.entity.getId(), (byte)i, (byte)j, this.entity.onGround()));
+					consumer.accept(new ClientboundMoveEntityPacket.Rot(this.entity.getId(), (byte)i, (byte)j, this.entity.onGround()));
 					this.yRotp = i;
 					this.xRotp = j;
 				}
 
 				this.positionCodec.setBase(this.entity.trackingPosition());
-				this.sendDirtyEntityData();
+				this.sendDirtyEntityData(consumer);
 				this.wasRiding = true;
 			} else {
 				++this.teleportDelay;
@@ -170,15 +192,15 @@ public class ServerEntity {
 					double d = vec32.distanceToSqr(this.ap);
 					if (d > 1.0E-7 || d > 0.0 && vec32.lengthSqr() == 0.0) {
 						this.ap = vec32;
-						this.broadcast.accept(new ClientboundSetEntityMotionPacket(this.entity.getId(), this.ap));
+						consumer.accept(new ClientboundSetEntityMotionPacket(this.entity.getId(), this.ap));
 					}
 				}
 
 				if (packet2 != null) {
-					this.broadcast.accept(packet2);
+					consumer.accept(packet2);
 				}
 
-				this.sendDirtyEntityData();
+				this.sendDirtyEntityData(consumer);
 				if (bl5) {
 					this.positionCodec.setBase(vec3);
 				}
@@ -193,7 +215,7 @@ public class ServerEntity {
 
 			int i = Mth.floor(this.entity.getYHeadRot() * 256.0F / 360.0F);
 			if (Math.abs(i - this.yHeadRotp) >= 1) {
-				this.broadcast.accept(new ClientboundRotateHeadPacket(this.entity, (byte)i));
+				consumer.accept(new ClientboundRotateHeadPacket(this.entity, (byte)i));
 				this.yHeadRotp = i;
 			}
 
@@ -202,7 +224,7 @@ public class ServerEntity {
 
 		++this.tickCount;
 		if (this.entity.hurtMarked) {
-			this.broadcastAndSend(new ClientboundSetEntityMotionPacket(this.entity));
+			this.broadcastAndSend(consumer, new ClientboundSetEntityMotionPacket(this.entity));
 			this.entity.hurtMarked = false;
 		}
 	}
@@ -281,26 +303,26 @@ public class ServerEntity {
 		}
 	}
 
-	private void sendDirtyEntityData() {
+	private void sendDirtyEntityData(Consumer<Packet<?>> consumer) {
 		SynchedEntityData synchedEntityData = this.entity.getEntityData();
 		List<SynchedEntityData.DataValue<?>> list = synchedEntityData.packDirty();
 		if (list != null) {
 			this.trackedDataValues = synchedEntityData.getNonDefaultValues();
-			this.broadcastAndSend(new ClientboundSetEntityDataPacket(this.entity.getId(), list));
+			this.broadcastAndSend(consumer, new ClientboundSetEntityDataPacket(this.entity.getId(), list));
 		}
 
 		if (this.entity instanceof LivingEntity) {
 			Set<AttributeInstance> set = ((LivingEntity)this.entity).getAttributes().getDirtyAttributes();
 			if (!set.isEmpty()) {
-				this.broadcastAndSend(new ClientboundUpdateAttributesPacket(this.entity.getId(), set));
+				this.broadcastAndSend(consumer, new ClientboundUpdateAttributesPacket(this.entity.getId(), set));
 			}
 
 			set.clear();
 		}
 	}
 
-	private void broadcastAndSend(Packet<?> packet) {
-		this.broadcast.accept(packet);
+	private void broadcastAndSend(Consumer<Packet<?>> consumer, Packet<?> packet) {
+		consumer.accept(packet);
 		if (this.entity instanceof ServerPlayer) {
 			((ServerPlayer)this.entity).connection.send(packet);
 		}
@@ -196,7 +196,9 @@ public class ServerLevel extends Level implements WorldGenLevel {
 	private final StructureManager structureManager;
 	private final StructureCheck structureCheck;
 	private final boolean tickTime;
+	private boolean worldStateTicked;
 	private final RandomSequences randomSequences;
+	private final NearbyEntityQueries nearbyEntityQueries = new NearbyEntityQueries(this);
 
 	public ServerLevel(
 		MinecraftServer minecraftServer,
@@ -311,31 +313,16 @@ public class ServerLevel extends Level implements WorldGenLevel {
 	public void tick(BooleanSupplier booleanSupplier) {
 		ProfilerFiller profilerFiller = this.getProfiler();
 		this.handlingTick = true;
+		this.nearbyEntityQueries.clear();
 		TickRateManager tickRateManager = this.tickRateManager();
 		boolean bl = tickRateManager.runsNormally();
-		if (bl) {
-			profilerFiller.push("world border");
-			this.getWorldBorder().tick();
-			profilerFiller.popPush("weather");
-			this.advanceWeatherCycle();
-		}
-
-		int i = this.getGameRules().getInt(GameRules.RULE_PLAYERS_SLEEPING_PERCENTAGE);
-		if (this.sleepStatus.areEnoughSleeping(i) && this.sleepStatus.areEnoughDeepSleeping(i, this.players)) {
-			if (this.getGameRules().getBoolean(GameRules.RULE_DAYLIGHT)) {
-				long l = this.levelData.getDayTime() + 24000L;
-				this.setDayTime(l - l % 24000L);
-			}
-
-			this.wakeUpAllPlayers();
-			if (this.getGameRules().getBoolean(GameRules.RULE_WEATHER_CYCLE) && this.isRaining()) {
-				this.resetWeatherCycle();
+		if (this.worldStateTicked) {
+			this.worldStateTicked = false;
+			if (bl) {
+				profilerFiller.push("weather");
 			}
-		}
-
-		this.updateSkyBrightness();
-		if (bl) {
-			this.tickTime();
+		} else {
+			this.tickWorldState(bl);
 		}
 
 		profilerFiller.popPush("tickPending");
@@ -409,11 +396,53 @@ public class ServerLevel extends Level implements WorldGenLevel {
 		profilerFiller.pop();
 	}
 
+	public NearbyEntityQueries getNearbyEntityQueries() {
+		return this.nearbyEntityQueries;
+	}
+
 	@Override
 	public boolean shouldTickBlocksAt(long l) {
 		return this.chunkSource.chunkMap.getDistanceManager().inBlockTickingRange(l);
 	}
 
+	public void tickWorldStateAhead() {
+		boolean bl = this.tickRateManager().runsNormally();
+		this.tickWorldState(bl);
+		if (bl) {
+			this.getProfiler().pop();
+		}
+
+		this.worldStateTicked = true;
+	}
+
+	private void tickWorldState(boolean bl) {
+		ProfilerFiller profilerFiller = this.getProfiler();
+		if (bl) {
+			profilerFiller.push("world border");
+			this.getWorldBorder().tick();
+			profilerFiller.popPush("weather");
+			this.advanceWeatherCycle();
+		}
+
+		int i = this.getGameRules().getInt(GameRules.RULE_PLAYERS_SLEEPING_PERCENTAGE);
+		if (this.sleepStatus.areEnoughSleeping(i) && this.sleepStatus.areEnoughDeepSleeping(i, this.players)) {
+			if (this.getGameRules().getBoolean(GameRules.RULE_DAYLIGHT)) {
+				long l = this.levelData.getDayTime() + 24000L;
+				this.setDayTime(l - l % 24000L);
+			}
+
+			this.wakeUpAllPlayers();
+			if (this.getGameRules().getBoolean(GameRules.RULE_WEATHER_CYCLE) && this.isRaining()) {
+				this.resetWeatherCycle();
+			}
+		}
+
+		this.updateSkyBrightness();
+		if (bl) {
+			this.tickTime();
+		}
+	}
+
 	protected void tickTime() {
 		if (this.tickTime) {
 			long l = this.levelData.getGameTime() + 1L;
@@ -501,19 +530,28 @@ public class ServerLevel extends Level implements WorldGenLevel {
 					int o = SectionPos.sectionToBlockCoord(n);
 
 					for(int p = 0; p < i; ++p) {
-						BlockPos blockPos2 = this.getBlockRandomPos(j, o, k, 15);
-						profilerFiller.push("randomTick");
-						BlockState blockState = levelChunkSection.getBlockState(blockPos2.getX() - j, blockPos2.getY() - o, blockPos2.getZ() - k);
-						if (blockState.isRandomlyTicking()) {
-							blockState.randomTick(this, blockPos2, this.random);
-						}
+						this.randValue = this.randValue * 3 + 1013904223;
+						int r = this.randValue >> 2;
+						int s = r & 15 | r >> 4 & 240 | r >> 8 & 3840;
+						if (s < levelChunkSection.getRandomTickPositionCount()) {
+							int t = levelChunkSection.getRandomTickPosition(s);
+							int u = t & 15;
+							int v = t >> 8 & 15;
+							int w = t >> 4 & 15;
+							BlockPos blockPos2 = new BlockPos(j + u, o + v, k + w);
+							profilerFiller.push("randomTick");
+							BlockState blockState = levelChunkSection.getBlockState(u, v, w);
+							if (blockState.isRandomlyTicking()) {
+								blockState.randomTick(this, blockPos2, this.random);
+							}
 
-						FluidState fluidState = blockState.getFluidState();
-						if (fluidState.isRandomlyTicking()) {
-							fluidState.randomTick(this, blockPos2, this.random);
-						}
+							FluidState fluidState = blockState.getFluidState();
+							if (fluidState.isRandomlyTicking()) {
+								fluidState.randomTick(this, blockPos2, this.random);
+							}
 
-						profilerFiller.pop();
+							profilerFiller.pop();
+						}
 					}
 				}
 			}
@@ -914,6 +952,7 @@ public class ServerLevel extends Level implements WorldGenLevel {
 	public void unload(LevelChunk levelChunk) {
 		levelChunk.clearAllBlockEntities();
 		levelChunk.unregisterTickContainerFromLevel(this);
+		this.gameEventDispatcher.removeListenerSections(levelChunk);
 	}
 
 	public void removePlayerImmediately(ServerPlayer serverPlayer, Entity.RemovalReason removalReason) {
@@ -991,6 +1030,10 @@ public class ServerLevel extends Level implements WorldGenLevel {
 		this.gameEventDispatcher.post(holder, vec3, context);
 	}
 
+	public GameEventDispatcher getGameEventDispatcher() {
+		return this.gameEventDispatcher;
+	}
+
 	@Override
 	public void sendBlockUpdated(BlockPos blockPos, BlockState blockState, BlockState blockState2, int i) {
 		if (this.isUpdatingNavigations) {
@@ -1057,6 +1100,11 @@ public class ServerLevel extends Level implements WorldGenLevel {
 		return this.chunkSource;
 	}
 
+	public void setTickingThread(Thread thread) {
+		this.setThread(thread);
+		this.chunkSource.mainThread = thread;
+	}
+
 	@Override
 	public Explosion explode(
 		@Nullable Entity entity,
@@ -1273,7 +1321,10 @@ public class ServerLevel extends Level implements WorldGenLevel {
 
 	@Override
 	public int getFreeMapId() {
-		return this.getServer().overworld().getDataStorage().computeIfAbsent(MapIndex.factory(), "idcounts").getFreeAuxValueForMap();
+		DimensionDataStorage dimensionDataStorage = this.getServer().overworld().getDataStorage();
+		synchronized(dimensionDataStorage) {
+			return dimensionDataStorage.computeIfAbsent(MapIndex.factory(), "idcounts").getFreeAuxValueForMap();
+		}
 	}
 
 	public void setDefaultSpawnPos(BlockPos blockPos, float f) {
@@ -1733,6 +1784,7 @@ public class ServerLevel extends Level implements WorldGenLevel {
 
 		public void onTrackingStart(Entity entity) {
 			ServerLevel.this.getChunkSource().addEntity(entity);
+			ServerLevel.this.nearbyEntityQueries.onSectionChange(entity);
 			if (entity instanceof ServerPlayer serverPlayer) {
 				ServerLevel.this.players.add(serverPlayer);
 				ServerLevel.this.updateSleepingPlayerList();
@@ -1760,6 +1812,7 @@ public class ServerLevel extends Level implements WorldGenLevel {
 
 		public void onTrackingEnd(Entity entity) {
 			ServerLevel.this.getChunkSource().removeEntity(entity);
+			ServerLevel.this.nearbyEntityQueries.onSectionChange(entity);
 			if (entity instanceof ServerPlayer serverPlayer) {
 				ServerLevel.this.players.remove(serverPlayer);
 				ServerLevel.this.updateSleepingPlayerList();
@@ -1786,6 +1839,7 @@ public class ServerLevel extends Level implements WorldGenLevel {
 		}
 
 		public void onSectionChange(Entity entity) {
+			ServerLevel.this.nearbyEntityQueries.onSectionChange(entity);
 			entity.updateDynamicGameEventListener(DynamicGameEventListener::move);
 		}
 	}
@@ -13,6 +13,7 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import net.minecraft.BlockUtil;
@@ -619,8 +620,12 @@ public class ServerPlayer extends Player {
 		}
 	}
 
+	private void updateScores(ObjectiveCriteria objectiveCriteria, ScoreHolder scoreHolder, Consumer<ScoreAccess> consumer) {
+		this.server.executeAfterLevelTicks(() -> this.getScoreboard().forAllObjectives(objectiveCriteria, scoreHolder, consumer));
+	}
+
 	private void updateScoreForCriteria(ObjectiveCriteria objectiveCriteria, int i) {
-		this.getScoreboard().forAllObjectives(objectiveCriteria, this, scoreAccess -> scoreAccess.set(i));
+		this.updateScores(objectiveCriteria, this, scoreAccess -> scoreAccess.set(i));
 	}
 
 	@Override
@@ -664,7 +669,7 @@ public class ServerPlayer extends Player {
 			this.dropAllDeathLoot(damageSource);
 		}
 
-		this.getScoreboard().forAllObjectives(ObjectiveCriteria.DEATH_COUNT, this, ScoreAccess::increment);
+		this.updateScores(ObjectiveCriteria.DEATH_COUNT, this, ScoreAccess::increment);
 		LivingEntity livingEntity = this.getKillCredit();
 		if (livingEntity != null) {
 			this.awardStat(Stats.ENTITY_KILLED_BY.get(livingEntity.getType()));
@@ -697,10 +702,10 @@ public class ServerPlayer extends Player {
 		if (entity != this) {
 			super.awardKillScore(entity, i, damageSource);
 			this.increaseScore(i);
-			this.getScoreboard().forAllObjectives(ObjectiveCriteria.KILL_COUNT_ALL, this, ScoreAccess::increment);
+			this.updateScores(ObjectiveCriteria.KILL_COUNT_ALL, this, ScoreAccess::increment);
 			if (entity instanceof Player) {
 				this.awardStat(Stats.PLAYER_KILLS);
-				this.getScoreboard().forAllObjectives(ObjectiveCriteria.KILL_COUNT_PLAYERS, this, ScoreAccess::increment);
+				this.updateScores(ObjectiveCriteria.KILL_COUNT_PLAYERS, this, ScoreAccess::increment);
 			} else {
 				this.awardStat(Stats.MOB_KILLS);
 			}
@@ -716,7 +721,7 @@ public class ServerPlayer extends Player {
 		if (playerTeam != null) {
 			int i = playerTeam.getColor().getId();
 			if (i >= 0 && i < objectiveCriterias.length) {
-				this.getScoreboard().forAllObjectives(objectiveCriterias[i], scoreHolder, ScoreAccess::increment);
+				this.updateScores(objectiveCriterias[i], scoreHolder, ScoreAccess::increment);
 			}
 		}
 	}
@@ -1188,13 +1193,13 @@ public class ServerPlayer extends Player {
 	@Override
 	public void awardStat(Stat<?> stat, int i) {
 		this.stats.increment(this, stat, i);
-		this.getScoreboard().forAllObjectives(stat, this, scoreAccess -> scoreAccess.add(i));
+		this.updateScores(stat, this, scoreAccess -> scoreAccess.add(i));
 	}
 
 	@Override
 	public void resetStat(Stat<?> stat) {
 		this.stats.setValue(this, stat, 0);
-		this.getScoreboard().forAllObjectives(stat, this, ScoreAccess::reset);
+		this.updateScores(stat, this, ScoreAccess::reset);
 	}
 
 	@Override
@@ -4,15 +4,22 @@ import com.google.common.collect.Comparators;
 import com.mojang.logging.LogUtils;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import javax.annotation.Nullable;
+import net.minecraft.Util;
 import net.minecraft.network.protocol.game.ClientboundChunkBatchFinishedPacket;
 import net.minecraft.network.protocol.game.ClientboundChunkBatchStartPacket;
 import net.minecraft.network.protocol.game.ClientboundForgetLevelChunkPacket;
 import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
 import net.minecraft.network.protocol.game.DebugPackets;
 import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ChunkPacketCache;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
@@ -26,30 +33,51 @@ public class PlayerChunkSender {
 	public static final float MAX_CHUNKS_PER_TICK = 64.0F;
 	private static final float START_CHUNKS_PER_TICK = 9.0F;
 	private static final int MAX_UNACKNOWLEDGED_BATCHES = 10;
+	private static final int INITIAL_CHUNK_SIZE_ESTIMATE = 16384;
+	private static final int MILLIS_PER_TICK = 50;
+	private static final int MAX_ENCODING_BATCH_TICKS = 3;
+	private static volatile boolean bandwidthWindow;
 	private final LongSet pendingChunks = new LongOpenHashSet();
 	private final boolean memoryConnection;
 	private float desiredChunksPerTick = 9.0F;
 	private float batchQuota;
 	private int unacknowledgedBatches;
 	private int maxUnacknowledgedBatches = 1;
+	@Nullable
+	private List<ChunkPacketCache.Entry> encodingBatch;
+	private final LongSet encodingChunks = new LongOpenHashSet();
+	private int encodingBatchTicks;
+	private final Queue<PlayerChunkSender.SentBatch> sentBatches = new ArrayDeque();
+	private float averageChunkSize = 16384.0F;
+	private float bytesPerMilli;
 
 	public PlayerChunkSender(boolean bl) {
 		this.memoryConnection = bl;
 	}
 
+	public static void configureBandwidthWindow(boolean bl) {
+		bandwidthWindow = bl;
+	}
+
 	public void markChunkPendingToSend(LevelChunk levelChunk) {
 		this.pendingChunks.add(levelChunk.getPos().toLong());
 	}
 
 	public void dropChunk(ServerPlayer serverPlayer, ChunkPos chunkPos) {
-		if (!this.pendingChunks.remove(chunkPos.toLong()) && serverPlayer.isAlive()) {
+		if (!this.pendingChunks.remove(chunkPos.toLong()) && !this.removeFromEncodingBatch(chunkPos.toLong()) && serverPlayer.isAlive()) {
 			serverPlayer.connection.send(new ClientboundForgetLevelChunkPacket(chunkPos));
 		}
 	}
 
 	public void sendNextChunks(ServerPlayer serverPlayer) {
-		if (this.unacknowledgedBatches < this.maxUnacknowledgedBatches) {
+		if (this.encodingBatch != null) {
+			this.trySendEncodingBatch(serverPlayer);
+		} else if (this.unacknowledgedBatches < this.maxUnacknowledgedBatches) {
 			float f = Math.max(1.0F, this.desiredChunksPerTick);
+			if (bandwidthWindow && !this.memoryConnection && this.bytesPerMilli > 0.0F) {
+				f = Math.max(1.0F, Math.min(f, this.bytesPerMilli * 50.0F / this.averageChunkSize));
+			}
+
 			this.batchQuota = Math.min(this.batchQuota + this.desiredChunksPerTick, f);
 			if (!(this.batchQuota < 1.0F)) {
 				if (!this.pendingChunks.isEmpty()) {
@@ -57,26 +85,125 @@ public class PlayerChunkSender {
 					ChunkMap chunkMap = serverLevel.getChunkSource().chunkMap;
 					List<LevelChunk> list = this.collectChunksToSend(chunkMap, serverPlayer.chunkPosition());
 					if (!list.isEmpty()) {
-						ServerGamePacketListenerImpl serverGamePacketListenerImpl = serverPlayer.connection;
-						++this.unacknowledgedBatches;
-						serverGamePacketListenerImpl.send(new ClientboundChunkBatchStartPacket());
+						this.batchQuota -= (float)list.size();
+						if (ChunkPacketCache.isEnabled()) {
+							List<ChunkPacketCache.Entry> list2 = new ArrayList(list.size());
 
-						for(LevelChunk levelChunk : list) {
-							sendChunk(serverGamePacketListenerImpl, serverLevel, levelChunk);
+							for(LevelChunk levelChunk : list) {
+								list2.add(chunkMap.getChunkPacketCache().getOrCreate(levelChunk));
+								this.encodingChunks.add(levelChunk.getPos().toLong());
+							}
+
+							this.encodingBatch = list2;
+							this.encodingBatchTicks = 0;
+							this.trySendEncodingBatch(serverPlayer);
+						} else {
+							ServerGamePacketListenerImpl serverGamePacketListenerImpl = serverPlayer.connection;
+							++this.unacknowledgedBatches;
+							serverGamePacketListenerImpl.send(new ClientboundChunkBatchStartPacket());
+							int i = 0;
+
+							for(LevelChunk levelChunk : list) {
+								i += sendChunk(serverGamePacketListenerImpl, serverLevel, levelChunk);
+							}
+
+							serverGamePacketListenerImpl.send(new ClientboundChunkBatchFinishedPacket(list.size()));
+							this.onBatchSent(i, list.size());
 						}
+					}
+				}
+			}
+		}
+	}
 
-						serverGamePacketListenerImpl.send(new ClientboundChunkBatchFinishedPacket(list.size()));
-						this.batchQuota -= (float)list.size();
+	private void trySendEncodingBatch(ServerPlayer serverPlayer) {
+		List<ChunkPacketCache.Entry> list = this.encodingBatch;
+		ServerLevel serverLevel = serverPlayer.serverLevel();
+		ChunkMap chunkMap = serverLevel.getChunkSource().chunkMap;
+		boolean bl = ++this.encodingBatchTicks >= 3;
+		boolean bl2 = true;
+
+		for(int i = 0; i < list.size(); ++i) {
+			ChunkPacketCache.Entry entry = (ChunkPacketCache.Entry)list.get(i);
+			if (!entry.isCurrent(entry.getChunk())) {
+				if (bl) {
+					bl2 = false;
+					continue;
+				}
+
+				entry = chunkMap.getChunkPacketCache().getOrCreate(entry.getChunk());
+				list.set(i, entry);
+			}
+
+			bl2 &= entry.isDone();
+		}
+
+		if (bl2 || bl) {
+			this.encodingBatch = null;
+			this.encodingChunks.clear();
+			ServerGamePacketListenerImpl serverGamePacketListenerImpl = serverPlayer.connection;
+			++this.unacknowledgedBatches;
+			serverGamePacketListenerImpl.send(new ClientboundChunkBatchStartPacket());
+			int j = 0;
+
+			for(ChunkPacketCache.Entry entry2 : list) {
+				ClientboundLevelChunkWithLightPacket clientboundLevelChunkWithLightPacket = entry2.isDone() && entry2.isCurrent(entry2.getChunk())
+					? entry2.getPacket()
+					: null;
+				if (clientboundLevelChunkWithLightPacket != null) {
+					serverGamePacketListenerImpl.send(clientboundLevelChunkWithLightPacket);
+					j += estimateSize(clientboundLevelChunkWithLightPacket);
+					DebugPackets.sendPoiPacketsForChunk(serverLevel, entry2.getChunk().getPos());
+				} else {
+					j += sendChunk(serverGamePacketListenerImpl, serverLevel, entry2.getChunk());
+				}
+			}
+
+			serverGamePacketListenerImpl.send(new ClientboundChunkBatchFinishedPacket(list.size()));
+			this.onBatchSent(j, list.size());
+		}
+	}
+
+	private void onBatchSent(int i, int j) {
+		if (bandwidthWindow && !this.memoryConnection) {
+			this.averageChunkSize = Mth.lerp(0.25F, this.averageChunkSize, (float)i / (float)j);
+			this.sentBatches.add(new PlayerChunkSender.SentBatch(i, Util.getMillis()));
+		}
+	}
+
+	private boolean removeFromEncodingBatch(long l) {
+		if (this.encodingChunks.remove(l)) {
+			Iterator<ChunkPacketCache.Entry> iterator = this.encodingBatch.iterator();
+
+			while(iterator.hasNext()) {
+				if (((ChunkPacketCache.Entry)iterator.next()).getChunk().getPos().toLong() == l) {
+					iterator.remove();
+					if (this.encodingBatch.isEmpty()) {
+						this.encodingBatch = null;
 					}
+
+					return true;
 				}
 			}
 		}
+
+		return false;
+	}
+
+	private static int estimateSize(ClientboundLevelChunkWithLightPacket clientboundLevelChunkWithLightPacket) {
+		return clientboundLevelChunkWithLightPacket.getChunkData().getReadBuffer().readableBytes()
+			+ (clientboundLevelChunkWithLightPacket.getLightData().getSkyUpdates().size() + clientboundLevelChunkWithLightPacket.getLightData().getBlockUpdates().size())
+				* 2048;
 	}
 
-	private static void sendChunk(ServerGamePacketListenerImpl serverGamePacketListenerImpl, ServerLevel serverLevel, LevelChunk levelChunk) {
-		serverGamePacketListenerImpl.send(new ClientboundLevelChunkWithLightPacket(levelChunk, serverLevel.getLightEngine(), null, null));
+	private static int sendChunk(ServerGamePacketListenerImpl serverGamePacketListenerImpl, ServerLevel serverLevel, LevelChunk levelChunk) {
+		ClientboundLevelChunkWithLightPacket clientboundLevelChunkWithLightPacket = new ClientboundLevelChunkWithLightPacket(
+			levelChunk, serverLevel.getLightEngine(), null, null
+		);
+		serverGamePacketListenerImpl.send(clientboundLevelChunkWithLightPacket);
 		ChunkPos chunkPos = levelChunk.getPos();
 		DebugPackets.sendPoiPacketsForChunk(serverLevel, chunkPos);
+		return estimateSize(clientboundLevelChunkWithLightPacket);
 	}
 
 	private List<LevelChunk> collectChunksToSend(ChunkMap chunkMap, ChunkPos chunkPos) {
@@ -107,6 +234,12 @@ public class PlayerChunkSender {
 
 	public void onChunkBatchReceivedByClient(float f) {
 		--this.unacknowledgedBatches;
+		PlayerChunkSender.SentBatch sentBatch = (PlayerChunkSender.SentBatch)this.sentBatches.poll();
+		if (sentBatch != null) {
+			float g = (float)sentBatch.bytes() / (float)Math.max(1L, Util.getMillis() - sentBatch.sentAt());
+			this.bytesPerMilli = this.bytesPerMilli > 0.0F ? Mth.lerp(0.25F, this.bytesPerMilli, g) : g;
+		}
+
 		this.desiredChunksPerTick = Double.isNaN((double)f) ? 0.01F : Mth.clamp(f, 0.01F, 64.0F);
 		if (this.unacknowledgedBatches == 0) {
 			this.batchQuota = 1.0F;
@@ -116,6 +249,9 @@ public class PlayerChunkSender {
 	}
 
 	public boolean isPending(long l) {
-		return this.pendingChunks.contains(l);
+		return this.pendingChunks.contains(l) || this.encodingChunks.contains(l);
+	}
+
+	static record SentBatch(int bytes, long sentAt) {
 	}
 }
@@ -90,7 +90,7 @@ public abstract class ServerCommonPacketListenerImpl implements ServerCommonPack
 				this.keepAlivePending = true;
 				this.keepAliveTime = l;
 				this.keepAliveChallenge = l;
-				this.send(new ClientboundKeepAlivePacket(this.keepAliveChallenge));
+				this.connection.send(new ClientboundKeepAlivePacket(this.keepAliveChallenge), null, true);
 			}
 		}
 
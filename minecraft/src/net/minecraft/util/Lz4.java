@@ -0,0 +1,336 @@
+package net.minecraft.util;
+
+import java.io.DataInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public class Lz4 {
+	public static final int BLOCK_SIZE = 65536;
+	private static final int MIN_MATCH = 4;
+	private static final int LAST_LITERALS = 5;
+	private static final int MATCH_FIND_LIMIT = 12;
+	private static final int MIN_LENGTH = 13;
+	private static final int HASH_LOG = 12;
+	private static final int MAX_DISTANCE = 65535;
+	private static final int ML_BITS = 4;
+	private static final int ML_MASK = 15;
+	private static final int RUN_MASK = 15;
+
+	public static int maxCompressedLength(int i) {
+		return i + i / 255 + 16;
+	}
+
+	public static int compress(byte[] bs, int i, int j, byte[] cs, int k) {
+		int l = i + j;
+		int m = k;
+		int n = i;
+		if (j >= 13) {
+			int[] is = new int[4096];
+			int o = l - 12;
+			int p = l - 5;
+			int q = i + 1;
+
+			while(q < o) {
+				int r = hash(readInt(bs, q));
+				int s = is[r] - 1 + i;
+				is[r] = q - i + 1;
+				if (s < i || q - s > 65535 || readInt(bs, s) != readInt(bs, q)) {
+					++q;
+				} else {
+					while(q > n && s > i && bs[q - 1] == bs[s - 1]) {
+						--q;
+						--s;
+					}
+
+					int t = q + 4;
+					int u = s + 4;
+
+					while(t < p && bs[t] == bs[u]) {
+						++t;
+						++u;
+					}
+
+					m = writeSequence(bs, n, q - n, q - s, t - q - 4, cs, m);
+					n = t;
+					q = t;
+					if (t - 2 > i) {
+						is[hash(readInt(bs, t - 2))] = t - 2 - i + 1;
+					}
+				}
+			}
+		}
+
+		return writeLastLiterals(bs, n, l - n, cs, m) - k;
+	}
+
+	public static void decompress(byte[] bs, int i, int j, byte[] cs, int k, int l) throws IOException {
+		int m = i + j;
+		int n = k + l;
+		int o = i;
+		int p = k;
+
+		while(o < m) {
+			int q = bs[o++] & 255;
+			int r = q >>> 4;
+			if (r == 15) {
+				int s;
+				do {
+					if (o >= m) {
+						throw new IOException("Malformed LZ4 block: truncated literal length");
+					}
+
+					s = bs[o++] & 255;
+					r += s;
+				} while(s == 255);
+			}
+
+			if (r > m - o || r > n - p) {
+				throw new IOException("Malformed LZ4 block: literals out of bounds");
+			}
+
+			System.arraycopy(bs, o, cs, p, r);
+			o += r;
+			p += r;
+			if (o == m) {
+				break;
+			}
+
+			if (o + 2 > m) {
+				throw new IOException("Malformed LZ4 block: truncated match offset");
+			}
+
+			int s = bs[o] & 255 | (bs[o + 1] & 255) << 8;
+			o += 2;
+			int t = p - s;
+			if (s == 0 || t < k) {
+				throw new IOException("Malformed LZ4 block: match offset out of bounds");
+			}
+
+			int u = (q & 15) + 4;
+			if ((q & 15) == 15) {
+				int v;
+				do {
+					if (o >= m) {
+						throw new IOException("Malformed LZ4 block: truncated match length");
+					}
+
+					v = bs[o++] & 255;
+					u += v;
+				} while(v == 255);
+			}
+
+			if (u > n - p) {
+				throw new IOException("Malformed LZ4 block: match out of bounds");
+			}
+
+			if (s >= u) {
+				System.arraycopy(cs, t, cs, p, u);
+				p += u;
+			} else {
+				for(int v = 0; v < u; ++v) {
+					cs[p++] = cs[t + v];
+				}
+			}
+		}
+
+		if (p != n) {
+			throw new IOException("Malformed LZ4 block: expected " + l + " bytes but got " + (p - k));
+		}
+	}
+
+	private static int writeSequence(byte[] bs, int i, int j, int k, int l, byte[] cs, int m) {
+		int n = m++;
+		int o = (Math.min(j, 15) << 4) | Math.min(l, 15);
+		cs[n] = (byte)o;
+		if (j >= 15) {
+			m = writeLength(j - 15, cs, m);
+		}
+
+		System.arraycopy(bs, i, cs, m, j);
+		m += j;
+		cs[m++] = (byte)k;
+		cs[m++] = (byte)(k >>> 8);
+		if (l >= 15) {
+			m = writeLength(l - 15, cs, m);
+		}
+
+		return m;
+	}
+
+	private static int writeLastLiterals(byte[] bs, int i, int j, byte[] cs, int k) {
+		cs[k++] = (byte)(Math.min(j, 15) << 4);
+		if (j >= 15) {
+			k = writeLength(j - 15, cs, k);
+		}
+
+		System.arraycopy(bs, i, cs, k, j);
+		return k + j;
+	}
+
+	private static int writeLength(int i, byte[] bs, int j) {
+		while(i >= 255) {
+			bs[j++] = -1;
+			i -= 255;
+		}
+
+		bs[j++] = (byte)i;
+		return j;
+	}
+
+	private static int readInt(byte[] bs, int i) {
+		return bs[i] & 255 | (bs[i + 1] & 255) << 8 | (bs[i + 2] & 255) << 16 | (bs[i + 3] & 255) << 24;
+	}
+
+	private static int hash(int i) {
+		return i * -1640531535 >>> 20;
+	}
+
+	public static class BlockInputStream extends InputStream {
+		private final DataInputStream in;
+		private final byte[] buffer = new byte[65536];
+		private final byte[] compressed = new byte[Lz4.maxCompressedLength(65536)];
+		private int limit;
+		private int position;
+		private boolean finished;
+
+		public BlockInputStream(InputStream inputStream) {
+			this.in = new DataInputStream(inputStream);
+		}
+
+		public int read() throws IOException {
+			if (this.position >= this.limit && !this.nextBlock()) {
+				return -1;
+			} else {
+				return Byte.toUnsignedInt(this.buffer[this.position++]);
+			}
+		}
+
+		public int read(byte[] bs, int i, int j) throws IOException {
+			if (j == 0) {
+				return 0;
+			} else if (this.position >= this.limit && !this.nextBlock()) {
+				return -1;
+			} else {
+				int k = Math.min(j, this.limit - this.position);
+				System.arraycopy(this.buffer, this.position, bs, i, k);
+				this.position += k;
+				return k;
+			}
+		}
+
+		public int available() {
+			return this.limit - this.position;
+		}
+
+		public void close() throws IOException {
+			this.in.close();
+		}
+
+		private boolean nextBlock() throws IOException {
+			if (this.finished) {
+				return false;
+			} else {
+				int i = this.in.read();
+				if (i == -1) {
+					this.finished = true;
+					return false;
+				} else {
+					int j = i << 24 | this.in.readUnsignedByte() << 16 | this.in.readUnsignedShort();
+					int k = this.in.readInt();
+					if (k <= 0 || k > 65536 || j <= 0 || j > Lz4.maxCompressedLength(k)) {
+						throw new IOException("Malformed LZ4 block header: " + j + " -> " + k);
+					} else {
+						if (j == k) {
+							this.in.readFully(this.buffer, 0, k);
+						} else {
+							this.in.readFully(this.compressed, 0, j);
+							Lz4.decompress(this.compressed, 0, j, this.buffer, 0, k);
+						}
+
+						this.position = 0;
+						this.limit = k;
+						return true;
+					}
+				}
+			}
+		}
+	}
+
+	public static class BlockOutputStream extends FilterOutputStream {
+		private final byte[] buffer = new byte[65536];
+		private final byte[] compressed = new byte[Lz4.maxCompressedLength(65536)];
+		private int count;
+		private boolean closed;
+
+		public BlockOutputStream(OutputStream outputStream) {
+			super(outputStream);
+		}
+
+		public void write(int i) throws IOException {
+			if (this.count == this.buffer.length) {
+				this.writeBlock();
+			}
+
+			this.buffer[this.count++] = (byte)i;
+		}
+
+		public void write(byte[] bs, int i, int j) throws IOException {
+			while(j > 0) {
+				if (this.count == this.buffer.length) {
+					this.writeBlock();
+				}
+
+				int k = Math.min(j, this.buffer.length - this.count);
+				System.arraycopy(bs, i, this.buffer, this.count, k);
+				this.count += k;
+				i += k;
+				j -= k;
+			}
+		}
+
+		public void flush() throws IOException {
+			this.writeBlock();
+			this.out.flush();
+		}
+
+		public void close() throws IOException {
+			if (!this.closed) {
+				this.closed = true;
+
+				try {
+					this.writeBlock();
+				} finally {
+					this.out.close();
+				}
+			}
+		}
+
+		private void writeBlock() throws IOException {
+			if (this.count > 0) {
+				int i = Lz4.compress(this.buffer, 0, this.count, this.compressed, 0);
+				if (i >= this.count) {
+					this.writeHeader(this.count, this.count);
+					this.out.write(this.buffer, 0, this.count);
+				} else {
+					this.writeHeader(i, this.count);
+					this.out.write(this.compressed, 0, i);
+				}
+
+				this.count = 0;
+			}
+		}
+
+		private void writeHeader(int i, int j) throws IOException {
+			this.out.write(i >>> 24);
+			this.out.write(i >>> 16);
+			this.out.write(i >>> 8);
+			this.out.write(i);
+			this.out.write(j >>> 24);
+			this.out.write(j >>> 16);
+			this.out.write(j >>> 8);
+			this.out.write(j);
+		}
+	}
+}
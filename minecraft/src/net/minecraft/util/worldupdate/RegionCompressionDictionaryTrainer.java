@@ -0,0 +1,139 @@
+package net.minecraft.util.worldupdate;
+
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.storage.RegionFile;
+import net.minecraft.world.level.chunk.storage.RegionFileVersion;
+import org.slf4j.Logger;
+
+public class RegionCompressionDictionaryTrainer {
+	private static final Logger LOGGER = LogUtils.getLogger();
+	private static final int SEGMENT_SIZE = 32;
+	private static final int SEGMENT_STEP = 8;
+	private static final int MAX_TRACKED_SEGMENTS = 4194304;
+	private final int maxSamples;
+	private final Long2IntOpenHashMap segmentCounts = new Long2IntOpenHashMap();
+	private final Long2ObjectOpenHashMap<byte[]> segments = new Long2ObjectOpenHashMap<>();
+	private int samples;
+
+	public RegionCompressionDictionaryTrainer(int i) {
+		this.maxSamples = i;
+	}
+
+	public boolean isFull() {
+		return this.samples >= this.maxSamples;
+	}
+
+	public void addSample(byte[] bs) {
+		if (!this.isFull()) {
+			++this.samples;
+			LongOpenHashSet longOpenHashSet = new LongOpenHashSet();
+
+			for(int i = 0; i + 32 <= bs.length; i += 8) {
+				long l = hashSegment(bs, i);
+				if (longOpenHashSet.add(l)) {
+					int j = this.segmentCounts.get(l);
+					if (j > 0) {
+						this.segmentCounts.put(l, j + 1);
+					} else if (this.segmentCounts.size() < 4194304) {
+						this.segmentCounts.put(l, 1);
+						this.segments.put(l, Arrays.copyOfRange(bs, i, i + 32));
+					}
+				}
+			}
+		}
+	}
+
+	public byte[] build(int i) {
+		List<Long2IntMap.Entry> list = new ArrayList<>();
+
+		for(Long2IntMap.Entry entry : this.segmentCounts.long2IntEntrySet()) {
+			if (entry.getIntValue() > 1) {
+				list.add(entry);
+			}
+		}
+
+		list.sort(Comparator.comparingInt(Long2IntMap.Entry::getIntValue).reversed());
+		int j = Math.min(list.size(), i / 32);
+		byte[] bs = new byte[j * 32];
+
+		for(int k = 0; k < j; ++k) {
+			System.arraycopy(this.segments.get(list.get(k).getLongKey()), 0, bs, bs.length - (k + 1) * 32, 32);
+		}
+
+		return bs;
+	}
+
+	private static long hashSegment(byte[] bs, int i) {
+		long l = 1125899906842597L;
+
+		for(int j = 0; j < 32; ++j) {
+			l = 31L * l + (long)bs[i + j];
+		}
+
+		return l;
+	}
+
+	public static void train(List<Path> list, Path path, int i) throws IOException {
+		RegionCompressionDictionaryTrainer regionCompressionDictionaryTrainer = new RegionCompressionDictionaryTrainer(i);
+
+		for(Path path2 : list) {
+			File[] files = path2.toFile().listFiles((file, string) -> string.endsWith(".mca"));
+			if (files != null) {
+				for(File file : files) {
+					if (regionCompressionDictionaryTrainer.isFull()) {
+						break;
+					}
+
+					regionCompressionDictionaryTrainer.sampleRegion(file.toPath(), path2);
+				}
+			}
+		}
+
+		if (regionCompressionDictionaryTrainer.samples == 0) {
+			throw new IOException("No chunks found to train a region file compression dictionary from");
+		} else {
+			byte[] bs = regionCompressionDictionaryTrainer.build(32768);
+			Files.write(path, bs);
+			LOGGER.info("Trained {} byte region file compression dictionary from {} chunks into {}", bs.length, regionCompressionDictionaryTrainer.samples, path);
+		}
+	}
+
+	private void sampleRegion(Path path, Path path2) {
+		try (RegionFile regionFile = new RegionFile(path, path2, RegionFileVersion.VERSION_NONE, false)) {
+			for(int i = 0; i < 32 && !this.isFull(); i += 3) {
+				for(int j = 0; j < 32 && !this.isFull(); j += 3) {
+					ChunkPos chunkPos = new ChunkPos(i, j);
+					if (regionFile.hasChunk(chunkPos)) {
+						DataInputStream dataInputStream = regionFile.getChunkDataInputStream(chunkPos);
+						if (dataInputStream != null) {
+							ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+							try (DataInputStream dataInputStream2 = dataInputStream) {
+								dataInputStream2.transferTo(byteArrayOutputStream);
+							}
+
+							this.addSample(byteArrayOutputStream.toByteArray());
+						}
+					}
+				}
+			}
+		} catch (IOException var12) {
+			LOGGER.warn("Failed to sample region file {}", path, var12);
+		}
+	}
+}
@@ -12,7 +12,11 @@ import it.unimi.dsi.fastutil.objects.Reference2FloatMaps;
 import it.unimi.dsi.fastutil.objects.Reference2FloatOpenHashMap;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Optional;
@@ -35,6 +39,7 @@ import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.chunk.storage.ChunkStorage;
+import net.minecraft.world.level.chunk.storage.RecreatingChunkStorage;
 import net.minecraft.world.level.chunk.storage.RegionFile;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.storage.DimensionDataStorage;
@@ -59,12 +64,19 @@ public class WorldUpgrader {
 	private final Reference2FloatMap<ResourceKey<Level>> progressMap = Reference2FloatMaps.synchronize(new Reference2FloatOpenHashMap<>());
 	private volatile Component status = Component.translatable("optimizeWorld.stage.counting");
 	private static final Pattern REGEX = Pattern.compile("^r\\.(-?[0-9]+)\\.(-?[0-9]+)\\.mca$");
+	private static final String NEW_REGION_FOLDER = "region_recreated";
+	private final boolean recreateRegionFiles;
 	private final DimensionDataStorage overworldDataStorage;
 
 	public WorldUpgrader(LevelStorageSource.LevelStorageAccess levelStorageAccess, DataFixer dataFixer, Registry<LevelStem> registry, boolean bl) {
+		this(levelStorageAccess, dataFixer, registry, bl, false);
+	}
+
+	public WorldUpgrader(LevelStorageSource.LevelStorageAccess levelStorageAccess, DataFixer dataFixer, Registry<LevelStem> registry, boolean bl, boolean bl2) {
 		this.dimensions = registry;
 		this.levels = (Set)registry.registryKeySet().stream().map(Registries::levelStemToLevel).collect(Collectors.toUnmodifiableSet());
 		this.eraseCache = bl;
+		this.recreateRegionFiles = bl2;
 		this.dataFixer = dataFixer;
 		this.levelStorage = levelStorageAccess;
 		this.overworldDataStorage = new DimensionDataStorage(this.levelStorage.getDimensionPath(Level.OVERWORLD).resolve("data").toFile(), dataFixer);
@@ -105,11 +117,16 @@ public class WorldUpgrader {
 
 			for(ResourceKey<Level> resourceKey2 : this.levels) {
 				Path path = this.levelStorage.getDimensionPath(resourceKey2);
-				builder2.put(resourceKey2, new ChunkStorage(path.resolve("region"), this.dataFixer, true));
+				if (this.recreateRegionFiles) {
+					builder2.put(resourceKey2, new RecreatingChunkStorage(path.resolve("region"), path.resolve("region_recreated"), this.dataFixer, true));
+				} else {
+					builder2.put(resourceKey2, new ChunkStorage(path.resolve("region"), this.dataFixer, true));
+				}
 			}
 
 			ImmutableMap<ResourceKey<Level>, ChunkStorage> immutableMap2 = builder2.build();
 			long l = Util.getMillis();
+			boolean bl4 = true;
 			this.status = Component.translatable("optimizeWorld.stage.upgrading");
 
 			while(this.running) {
@@ -136,7 +153,7 @@ public class WorldUpgrader {
 									LOGGER.warn("Chunk {} has invalid position {}", chunkPos, chunkPos2);
 								}
 
-								boolean bl3 = i < SharedConstants.getCurrentVersion().getDataVersion().getVersion();
+								boolean bl3 = this.recreateRegionFiles || i < SharedConstants.getCurrentVersion().getDataVersion().getVersion();
 								if (this.eraseCache) {
 									bl3 = bl3 || compoundTag2.contains("Heightmaps");
 									compoundTag2.remove("Heightmaps");
@@ -165,6 +182,7 @@ public class WorldUpgrader {
 							}
 
 							LOGGER.error("Error upgrading chunk {}", chunkPos, throwable);
+							bl4 = false;
 						}
 
 						if (bl2) {
@@ -187,16 +205,34 @@ public class WorldUpgrader {
 				}
 			}
 
+			bl4 = bl4 && immutableMap.values().stream().noneMatch(ListIterator::hasNext);
 			this.status = Component.translatable("optimizeWorld.stage.finished");
 
 			for(ChunkStorage chunkStorage2 : immutableMap2.values()) {
 				try {
 					chunkStorage2.close();
 				} catch (IOException var25) {
+					bl4 = false;
 					LOGGER.error("Error upgrading chunk", var25);
 				}
 			}
 
+			if (this.recreateRegionFiles) {
+				if (bl4) {
+					for(ResourceKey<Level> resourceKey4 : this.levels) {
+						Path path2 = this.levelStorage.getDimensionPath(resourceKey4);
+
+						try {
+							moveRecreatedRegionFiles(path2.resolve("region_recreated"), path2.resolve("region"));
+						} catch (IOException var24) {
+							LOGGER.error("Failed to replace region files of {} with recreated ones", resourceKey4.location(), var24);
+						}
+					}
+				} else {
+					LOGGER.warn("Region file recreation did not complete, keeping the original region files");
+				}
+			}
+
 			this.overworldDataStorage.save();
 			l = Util.getMillis() - l;
 			LOGGER.info("World optimizaton finished after {} ms", l);
@@ -204,6 +240,26 @@ public class WorldUpgrader {
 		}
 	}
 
+	private static void moveRecreatedRegionFiles(Path path, Path path2) throws IOException {
+		if (Files.isDirectory(path, new LinkOption[0])) {
+			try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(path2, "*.mca")) {
+				for(Path path3 : directoryStream) {
+					if (!Files.exists(path.resolve(path3.getFileName()), new LinkOption[0])) {
+						Files.delete(path3);
+					}
+				}
+			}
+
+			try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(path)) {
+				for(Path path3 : directoryStream) {
+					Files.move(path3, path2.resolve(path3.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+
+			Files.delete(path);
+		}
+	}
+
 	private List<ChunkPos> getAllChunkPos(ResourceKey<Level> resourceKey) {
 		File file = this.levelStorage.getDimensionPath(resourceKey).toFile();
 		File file2 = new File(file, "region");
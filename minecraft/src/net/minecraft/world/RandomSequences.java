@@ -32,7 +32,7 @@ public class RandomSequences extends SavedData {
 		this.worldSeed = l;
 	}
 
-	public RandomSource get(ResourceLocation resourceLocation) {
+	public synchronized RandomSource get(ResourceLocation resourceLocation) {
 		RandomSource randomSource = ((RandomSequence)this.sequences.computeIfAbsent(resourceLocation, this::createSequence)).random();
 		return new RandomSequences.DirtyMarkingRandomSource(randomSource);
 	}
@@ -46,18 +46,18 @@ public class RandomSequences extends SavedData {
 		return new RandomSequence(l, bl2 ? Optional.of(resourceLocation) : Optional.empty());
 	}
 
-	public void forAllSequences(BiConsumer<ResourceLocation, RandomSequence> biConsumer) {
+	public synchronized void forAllSequences(BiConsumer<ResourceLocation, RandomSequence> biConsumer) {
 		this.sequences.forEach(biConsumer);
 	}
 
-	public void setSeedDefaults(int i, boolean bl, boolean bl2) {
+	public synchronized void setSeedDefaults(int i, boolean bl, boolean bl2) {
 		this.salt = i;
 		this.includeWorldSeed = bl;
 		this.includeSequenceId = bl2;
 	}
 
 	@Override
-	public CompoundTag save(CompoundTag compoundTag) {
+	public synchronized CompoundTag save(CompoundTag compoundTag) {
 		compoundTag.putInt("salt", this.salt);
 		compoundTag.putBoolean("include_world_seed", this.includeWorldSeed);
 		compoundTag.putBoolean("include_sequence_id", this.includeSequenceId);
@@ -95,17 +95,17 @@ public class RandomSequences extends SavedData {
 		return randomSequences;
 	}
 
-	public int clear() {
+	public synchronized int clear() {
 		int i = this.sequences.size();
 		this.sequences.clear();
 		return i;
 	}
 
-	public void reset(ResourceLocation resourceLocation) {
+	public synchronized void reset(ResourceLocation resourceLocation) {
 		this.sequences.put(resourceLocation, this.createSequence(resourceLocation));
 	}
 
-	public void reset(ResourceLocation resourceLocation, int i, boolean bl, boolean bl2) {
+	public synchronized void reset(ResourceLocation resourceLocation, int i, boolean bl, boolean bl2) {
 		this.sequences.put(resourceLocation, this.createSequence(resourceLocation, i, bl, bl2));
 	}
 
@@ -119,61 +119,81 @@ public class RandomSequences extends SavedData {
 		@Override
 		public RandomSource fork() {
 			RandomSequences.this.setDirty();
-			return this.random.fork();
+			synchronized(this.random) {
+				return this.random.fork();
+			}
 		}
 
 		@Override
 		public PositionalRandomFactory forkPositional() {
 			RandomSequences.this.setDirty();
-			return this.random.forkPositional();
+			synchronized(this.random) {
+				return this.random.forkPositional();
+			}
 		}
 
 		@Override
 		public void setSeed(long l) {
 			RandomSequences.this.setDirty();
-			this.random.setSeed(l);
+			synchronized(this.random) {
+				this.random.setSeed(l);
+			}
 		}
 
 		@Override
 		public int nextInt() {
 			RandomSequences.this.setDirty();
-			return this.random.nextInt();
+			synchronized(this.random) {
+				return this.random.nextInt();
+			}
 		}
 
 		@Override
 		public int nextInt(int i) {
 			RandomSequences.this.setDirty();
-			return this.random.nextInt(i);
+			synchronized(this.random) {
+				return this.random.nextInt(i);
+			}
 		}
 
 		@Override
 		public long nextLong() {
 			RandomSequences.this.setDirty();
-			return this.random.nextLong();
+			synchronized(this.random) {
+				return this.random.nextLong();
+			}
 		}
 
 		@Override
 		public boolean nextBoolean() {
 			RandomSequences.this.setDirty();
-			return this.random.nextBoolean();
+			synchronized(this.random) {
+				return this.random.nextBoolean();
+			}
 		}
 
 		@Override
 		public float nextFloat() {
 			RandomSequences.this.setDirty();
-			return this.random.nextFloat();
+			synchronized(this.random) {
+				return this.random.nextFloat();
+			}
 		}
 
 		@Override
 		public double nextDouble() {
 			RandomSequences.this.setDirty();
-			return this.random.nextDouble();
+			synchronized(this.random) {
+				return this.random.nextDouble();
+			}
 		}
 
 		@Override
 		public double nextGaussian() {
 			RandomSequences.this.setDirty();
-			return this.random.nextGaussian();
+			synchronized(this.random) {
+				return this.random.nextGaussian();
+			}
 		}
 
 		public boolean equals(Object object) {
@@ -2059,7 +2059,11 @@ public abstract class Entity implements Nameable, EntityAccess, CommandSource, S
 					this.level().getProfiler().push("portal");
 					this.portalTime = i;
 					this.setPortalCooldown();
-					this.changeDimension(serverLevel2);
+					minecraftServer.executeAfterLevelTicks(() -> {
+						if (!this.isRemoved() && this.level() == serverLevel) {
+							this.changeDimension(serverLevel2);
+						}
+					});
 					this.level().getProfiler().pop();
 				}
 
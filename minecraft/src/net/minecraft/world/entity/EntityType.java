@@ -1205,6 +1205,11 @@ public class EntityType<T extends Entity> implements FeatureElement, EntityTypeT
 		return Entity.class;
 	}
 
+	@Override
+	public boolean isIndexable() {
+		return true;
+	}
+
 	@Deprecated
 	public Holder.Reference<EntityType<?>> builtInRegistryHolder() {
 		return this.builtInRegistryHolder;
@@ -5,6 +5,7 @@ import net.minecraft.util.Mth;
 
 public abstract class Goal {
 	private final EnumSet<Goal.Flag> flags = EnumSet.noneOf(Goal.Flag.class);
+	private int flagMask;
 
 	public abstract boolean canUse();
 
@@ -32,6 +33,11 @@ public abstract class Goal {
 	public void setFlags(EnumSet<Goal.Flag> enumSet) {
 		this.flags.clear();
 		this.flags.addAll(enumSet);
+		this.flagMask = 0;
+
+		for(Goal.Flag flag : enumSet) {
+			this.flagMask |= flag.getMask();
+		}
 	}
 
 	public String toString() {
@@ -42,6 +48,10 @@ public abstract class Goal {
 		return this.flags;
 	}
 
+	public int getFlagMask() {
+		return this.flagMask;
+	}
+
 	protected int adjustedTickDelay(int i) {
 		return this.requiresUpdateEveryTick() ? i : reducedTickDelay(i);
 	}
@@ -55,5 +65,9 @@ public abstract class Goal {
 		LOOK,
 		JUMP,
 		TARGET;
+
+		public int getMask() {
+			return 1 << this.ordinal();
+		}
 	}
 }
@@ -2,11 +2,7 @@ package net.minecraft.world.entity.ai.goal;
 
 import com.google.common.annotations.VisibleForTesting;
 import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
-import java.util.EnumMap;
-import java.util.EnumSet;
-import java.util.Map;
 import java.util.Set;
-import java.util.Map.Entry;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import net.minecraft.util.profiling.ProfilerFiller;
@@ -23,15 +19,20 @@ public class GoalSelector {
 			return false;
 		}
 	};
-	private final Map<Goal.Flag, WrappedGoal> lockedFlags = new EnumMap(Goal.Flag.class);
+	private static volatile int canUseRecheckInterval = 1;
+	private final WrappedGoal[] lockedFlags = new WrappedGoal[Goal.Flag.values().length];
 	private final Set<WrappedGoal> availableGoals = new ObjectLinkedOpenHashSet<>();
 	private final Supplier<ProfilerFiller> profiler;
-	private final EnumSet<Goal.Flag> disabledFlags = EnumSet.noneOf(Goal.Flag.class);
+	private int disabledFlags;
 
 	public GoalSelector(Supplier<ProfilerFiller> supplier) {
 		this.profiler = supplier;
 	}
 
+	public static void configureCanUseRecheckInterval(int i) {
+		canUseRecheckInterval = i;
+	}
+
 	public void addGoal(int i, Goal goal) {
 		this.availableGoals.add(new WrappedGoal(i, goal));
 	}
@@ -51,19 +52,14 @@ public class GoalSelector {
 		this.availableGoals.removeIf(wrappedGoalx -> wrappedGoalx.getGoal() == goal);
 	}
 
-	private static boolean goalContainsAnyFlags(WrappedGoal wrappedGoal, EnumSet<Goal.Flag> enumSet) {
-		for(Goal.Flag flag : wrappedGoal.getFlags()) {
-			if (enumSet.contains(flag)) {
-				return true;
-			}
-		}
-
-		return false;
+	private static boolean goalContainsAnyFlags(WrappedGoal wrappedGoal, int i) {
+		return (wrappedGoal.getFlagMask() & i) != 0;
 	}
 
-	private static boolean goalCanBeReplacedForAllFlags(WrappedGoal wrappedGoal, Map<Goal.Flag, WrappedGoal> map) {
-		for(Goal.Flag flag : wrappedGoal.getFlags()) {
-			if (!((WrappedGoal)map.getOrDefault(flag, NO_GOAL)).canBeReplacedBy(wrappedGoal)) {
+	private static boolean goalCanBeReplacedForAllFlags(WrappedGoal wrappedGoal, WrappedGoal[] wrappedGoals) {
+		for(int i = wrappedGoal.getFlagMask(); i != 0; i &= i - 1) {
+			WrappedGoal wrappedGoal2 = wrappedGoals[Integer.numberOfTrailingZeros(i)];
+			if (!(wrappedGoal2 != null ? wrappedGoal2 : NO_GOAL).canBeReplacedBy(wrappedGoal)) {
 				return false;
 			}
 		}
@@ -81,19 +77,30 @@ public class GoalSelector {
 			}
 		}
 
-		this.lockedFlags.entrySet().removeIf(entry -> !((WrappedGoal)entry.getValue()).isRunning());
+		for(int i = 0; i < this.lockedFlags.length; ++i) {
+			if (this.lockedFlags[i] != null && !this.lockedFlags[i].isRunning()) {
+				this.lockedFlags[i] = null;
+			}
+		}
+
 		profilerFiller.pop();
 		profilerFiller.push("goalUpdate");
 
+		int i = canUseRecheckInterval;
+
 		for(WrappedGoal wrappedGoal : this.availableGoals) {
 			if (!wrappedGoal.isRunning()
 				&& !goalContainsAnyFlags(wrappedGoal, this.disabledFlags)
 				&& goalCanBeReplacedForAllFlags(wrappedGoal, this.lockedFlags)
-				&& wrappedGoal.canUse()) {
-				for(Goal.Flag flag : wrappedGoal.getFlags()) {
-					WrappedGoal wrappedGoal2 = (WrappedGoal)this.lockedFlags.getOrDefault(flag, NO_GOAL);
-					wrappedGoal2.stop();
-					this.lockedFlags.put(flag, wrappedGoal);
+				&& wrappedGoal.canUse(i)) {
+				for(int j = wrappedGoal.getFlagMask(); j != 0; j &= j - 1) {
+					int k = Integer.numberOfTrailingZeros(j);
+					WrappedGoal wrappedGoal2 = this.lockedFlags[k];
+					if (wrappedGoal2 != null) {
+						wrappedGoal2.stop();
+					}
+
+					this.lockedFlags[k] = wrappedGoal;
 				}
 
 				wrappedGoal.start();
@@ -122,11 +129,11 @@ public class GoalSelector {
 	}
 
 	public void disableControlFlag(Goal.Flag flag) {
-		this.disabledFlags.add(flag);
+		this.disabledFlags |= flag.getMask();
 	}
 
 	public void enableControlFlag(Goal.Flag flag) {
-		this.disabledFlags.remove(flag);
+		this.disabledFlags &= ~flag.getMask();
 	}
 
 	public void setControlFlag(Goal.Flag flag, boolean bl) {
@@ -7,6 +7,7 @@ public class WrappedGoal extends Goal {
 	private final Goal goal;
 	private final int priority;
 	private boolean isRunning;
+	private int canUseCooldown;
 
 	public WrappedGoal(int i, Goal goal) {
 		this.priority = i;
@@ -22,6 +23,22 @@ public class WrappedGoal extends Goal {
 		return this.goal.canUse();
 	}
 
+	public boolean canUse(int i) {
+		if (i > 1 && !this.requiresUpdateEveryTick()) {
+			if (this.canUseCooldown > 0) {
+				--this.canUseCooldown;
+				return false;
+			} else if (this.goal.canUse()) {
+				return true;
+			} else {
+				this.canUseCooldown = i - 1;
+				return false;
+			}
+		} else {
+			return this.goal.canUse();
+		}
+	}
+
 	@Override
 	public boolean canContinueToUse() {
 		return this.goal.canContinueToUse();
@@ -73,6 +90,11 @@ public class WrappedGoal extends Goal {
 		return this.goal.getFlags();
 	}
 
+	@Override
+	public int getFlagMask() {
+		return this.goal.getFlagMask();
+	}
+
 	public boolean isRunning() {
 		return this.isRunning;
 	}
@@ -46,6 +46,7 @@ public class FlyingPathNavigation extends PathNavigation {
 	@Override
 	public void tick() {
 		++this.tick;
+		this.deliverPendingPath();
 		if (this.hasDelayedRecomputation) {
 			this.recomputePath();
 		}
@@ -1,7 +1,12 @@
 package net.minecraft.world.entity.ai.navigation;
 
 import com.google.common.collect.ImmutableSet;
+import com.mojang.logging.LogUtils;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
@@ -25,8 +30,10 @@ import net.minecraft.world.level.pathfinder.PathFinder;
 import net.minecraft.world.level.pathfinder.WalkNodeEvaluator;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
+import org.slf4j.Logger;
 
 public abstract class PathNavigation {
+	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final int MAX_TIME_RECOMPUTE = 20;
 	private static final int STUCK_CHECK_INTERVAL = 100;
 	private static final float STUCK_THRESHOLD_DISTANCE_FACTOR = 0.25F;
@@ -52,14 +59,32 @@ public abstract class PathNavigation {
 	private float maxVisitedNodesMultiplier = 1.0F;
 	private final PathFinder pathFinder;
 	private boolean isStuck;
+	private static final AtomicInteger PATHFINDER_THREAD_ID = new AtomicInteger(1);
+	private static final ExecutorService PATHFINDER_EXECUTOR = Executors.newFixedThreadPool(
+		Mth.clamp(Runtime.getRuntime().availableProcessors() / 2, 1, 4), runnable -> {
+			Thread thread = new Thread(runnable, "Pathfinder-" + PATHFINDER_THREAD_ID.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	);
+	private static volatile boolean asyncPathfinding;
+	private final int maxVisitedNodes;
+	private boolean deferPath;
+	@Nullable
+	private PathNavigation.PendingPath pendingPath;
 
 	public PathNavigation(Mob mob, Level level) {
 		this.mob = mob;
 		this.level = level;
 		int i = Mth.floor(mob.getAttributeValue(Attributes.FOLLOW_RANGE) * 16.0);
+		this.maxVisitedNodes = i;
 		this.pathFinder = this.createPathFinder(i);
 	}
 
+	public static void configureAsyncPathfinding(boolean bl) {
+		asyncPathfinding = bl;
+	}
+
 	public void resetMaxVisitedNodesMultiplier() {
 		this.maxVisitedNodesMultiplier = 1.0F;
 	}
@@ -82,8 +107,23 @@ public abstract class PathNavigation {
 	public void recomputePath() {
 		if (this.level.getGameTime() - this.timeLastRecompute > 20L) {
 			if (this.targetPos != null) {
+				Path path = this.path;
+				boolean bl = this.canDeferPath();
 				this.path = null;
-				this.path = this.createPath(this.targetPos, this.reachRange);
+				this.deferPath = bl;
+
+				try {
+					this.path = this.createPath(this.targetPos, this.reachRange);
+				} finally {
+					this.deferPath = false;
+				}
+
+				if (bl) {
+					this.path = path;
+				} else {
+					this.cancelPendingPath();
+				}
+
 				this.timeLastRecompute = this.level.getGameTime();
 				this.hasDelayedRecomputation = false;
 			}
@@ -136,6 +176,13 @@ public abstract class PathNavigation {
 		} else if (!this.canUpdatePath()) {
 			return null;
 		} else if (this.path != null && !this.path.isDone() && set.contains(this.targetPos)) {
+			if (this.deferPath) {
+				this.cancelPendingPath();
+			}
+
+			return this.path;
+		} else if (this.deferPath) {
+			this.requestPath(set, i, bl, j, f);
 			return this.path;
 		} else {
 			this.level.getProfiler().push("pathfind");
@@ -154,22 +201,115 @@ public abstract class PathNavigation {
 		}
 	}
 
+	private void requestPath(Set<BlockPos> set, int i, boolean bl, int j, float f) {
+		if (this.pendingPath != null && !this.pendingPath.targets().equals(set)) {
+			this.cancelPendingPath();
+		}
+
+		this.deliverPendingPath();
+		if (this.pendingPath == null) {
+			BlockPos blockPos = bl ? this.mob.blockPosition().above() : this.mob.blockPosition();
+			int k = (int)(f + (float)i);
+			PathNavigationRegion pathNavigationRegion = new PathNavigationRegion(this.level, blockPos.offset(-k, -k, -k), blockPos.offset(k, k, k));
+			pathNavigationRegion.markAsync(this.mob);
+			PathFinder pathFinder = this.createAsyncPathFinder();
+			Set<BlockPos> set2 = ImmutableSet.copyOf(set);
+			float g = this.maxVisitedNodesMultiplier;
+			this.mob.onPathfindingStart();
+			this.pendingPath = new PathNavigation.PendingPath(
+				CompletableFuture.supplyAsync(() -> pathFinder.findPath(pathNavigationRegion, this.mob, set2, f, j, g), PATHFINDER_EXECUTOR), set2, j
+			);
+		}
+	}
+
+	private PathFinder createAsyncPathFinder() {
+		NodeEvaluator nodeEvaluator = this.nodeEvaluator;
+		PathFinder pathFinder = this.createPathFinder(this.maxVisitedNodes);
+		this.nodeEvaluator.setCanPassDoors(nodeEvaluator.canPassDoors());
+		this.nodeEvaluator.setCanOpenDoors(nodeEvaluator.canOpenDoors());
+		this.nodeEvaluator.setCanFloat(nodeEvaluator.canFloat());
+		this.nodeEvaluator.setCanWalkOverFences(nodeEvaluator.canWalkOverFences());
+		this.nodeEvaluator = nodeEvaluator;
+		return pathFinder;
+	}
+
+	protected void deliverPendingPath() {
+		if (this.pendingPath != null && this.pendingPath.future().isDone()) {
+			PathNavigation.PendingPath pendingPath = this.pendingPath;
+			this.pendingPath = null;
+			this.mob.onPathfindingDone();
+
+			Path path;
+			try {
+				path = (Path)pendingPath.future().join();
+			} catch (RuntimeException var4) {
+				LOGGER.error("Failed to find path for {}", this.mob, var4);
+				return;
+			}
+
+			this.path = path;
+			if (path != null) {
+				if (path.getTarget() != null) {
+					this.targetPos = path.getTarget();
+					this.reachRange = pendingPath.reachRange();
+					this.resetStuckTimeout();
+				}
+
+				this.trimPath();
+				this.lastStuckCheck = this.tick;
+				this.lastStuckCheckPos = this.getTempMobPos();
+			}
+		}
+	}
+
+	private void cancelPendingPath() {
+		if (this.pendingPath != null) {
+			this.pendingPath = null;
+			this.mob.onPathfindingDone();
+		}
+	}
+
+	private boolean canDeferPath() {
+		return asyncPathfinding && !this.level.isClientSide && this.path != null && !this.path.isDone();
+	}
+
 	public boolean moveTo(double d, double e, double f, double g) {
-		return this.moveTo(this.createPath(d, e, f, 1), g);
+		this.deferPath = this.canDeferPath();
+
+		Path path;
+		try {
+			path = this.createPath(d, e, f, 1);
+		} finally {
+			this.deferPath = false;
+		}
+
+		return this.moveTo(path, g);
 	}
 
 	public boolean moveTo(Entity entity, double d) {
-		Path path = this.createPath(entity, 1);
+		this.deferPath = this.canDeferPath();
+
+		Path path;
+		try {
+			path = this.createPath(entity, 1);
+		} finally {
+			this.deferPath = false;
+		}
+
 		return path != null && this.moveTo(path, d);
 	}
 
 	public boolean moveTo(@Nullable Path path, double d) {
 		if (path == null) {
 			this.path = null;
+			this.cancelPendingPath();
 			return false;
 		} else {
-			if (!path.sameAs(this.path)) {
-				this.path = path;
+			if (path != this.path) {
+				this.cancelPendingPath();
+				if (!path.sameAs(this.path)) {
+					this.path = path;
+				}
 			}
 
 			if (this.isDone()) {
@@ -196,6 +336,7 @@ public abstract class PathNavigation {
 
 	public void tick() {
 		++this.tick;
+		this.deliverPendingPath();
 		if (this.hasDelayedRecomputation) {
 			this.recomputePath();
 		}
@@ -323,6 +464,7 @@ public abstract class PathNavigation {
 
 	public void stop() {
 		this.path = null;
+		this.cancelPendingPath();
 	}
 
 	protected abstract Vec3 getTempMobPos();
@@ -395,4 +537,7 @@ public abstract class PathNavigation {
 	public boolean isStuck() {
 		return this.isStuck;
 	}
+
+	static record PendingPath(CompletableFuture<Path> future, Set<BlockPos> targets, int reachRange) {
+	}
 }
@@ -23,7 +23,8 @@ public class NearestItemSensor extends Sensor<Mob> {
 
 	protected void doTick(ServerLevel serverLevel, Mob mob) {
 		Brain<?> brain = mob.getBrain();
-		List<ItemEntity> list = serverLevel.getEntitiesOfClass(ItemEntity.class, mob.getBoundingBox().inflate(32.0, 16.0, 32.0), itemEntity -> true);
+		List<ItemEntity> list = serverLevel.getNearbyEntityQueries()
+			.getEntitiesOfClass(ItemEntity.class, mob, mob.getBoundingBox().inflate(32.0, 16.0, 32.0), itemEntity -> true);
 		list.sort(Comparator.comparingDouble(mob::distanceToSqr));
 		Optional<ItemEntity> optional = list.stream()
 			.filter(itemEntity -> mob.wantsToPickUp(itemEntity.getItem()))
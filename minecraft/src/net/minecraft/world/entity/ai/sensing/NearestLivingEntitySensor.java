@@ -15,7 +15,8 @@ public class NearestLivingEntitySensor<T extends LivingEntity> extends Sensor<T>
 	@Override
 	protected void doTick(ServerLevel serverLevel, T livingEntity) {
 		AABB aABB = livingEntity.getBoundingBox().inflate((double)this.radiusXZ(), (double)this.radiusY(), (double)this.radiusXZ());
-		List<LivingEntity> list = serverLevel.getEntitiesOfClass(LivingEntity.class, aABB, livingEntity2 -> livingEntity2 != livingEntity && livingEntity2.isAlive());
+		List<LivingEntity> list = serverLevel.getNearbyEntityQueries()
+			.getEntitiesOfClass(LivingEntity.class, livingEntity, aABB, livingEntity2 -> livingEntity2 != livingEntity && livingEntity2.isAlive());
 		list.sort(Comparator.comparingDouble(livingEntity::distanceToSqr));
 		Brain<?> brain = livingEntity.getBrain();
 		brain.setMemory(MemoryModuleType.NEAREST_LIVING_ENTITIES, list);
@@ -79,11 +79,16 @@ public class PoiManager extends SectionStorage<PoiSection> {
 	public Stream<PoiRecord> getInChunk(Predicate<Holder<PoiType>> predicate, ChunkPos chunkPos, PoiManager.Occupancy occupancy) {
 		return IntStream.range(this.levelHeightAccessor.getMinSection(), this.levelHeightAccessor.getMaxSection())
 			.boxed()
-			.map(integer -> this.getOrLoad(SectionPos.of(chunkPos, integer).asLong()))
-			.filter(Optional::isPresent)
+			.map(integer -> this.tryGetOrLoad(SectionPos.of(chunkPos, integer).asLong()))
+			.filter(optional -> optional != null && optional.isPresent())
 			.flatMap(optional -> ((PoiSection)optional.get()).getRecords(predicate, occupancy));
 	}
 
+	public void loadInSquare(BlockPos blockPos, int i) {
+		ChunkPos.rangeClosed(new ChunkPos(blockPos), Math.floorDiv(i, 16) + 1)
+			.forEach(chunkPos -> this.getOrLoad(SectionPos.of(chunkPos, this.levelHeightAccessor.getMinSection()).asLong()));
+	}
+
 	public Stream<BlockPos> findAll(
 		Predicate<Holder<PoiType>> predicate, Predicate<BlockPos> predicate2, BlockPos blockPos, int i, PoiManager.Occupancy occupancy
 	) {
@@ -385,10 +385,12 @@ public class Frog extends Animal implements VariantHolder<FrogVariant> {
 
 		@Override
 		public Node getStart() {
-			return !this.mob.isInWater()
+			return !this.mobState.isInWater()
 				? super.getStart()
 				: this.getStartNode(
-					new BlockPos(Mth.floor(this.mob.getBoundingBox().minX), Mth.floor(this.mob.getBoundingBox().minY), Mth.floor(this.mob.getBoundingBox().minZ))
+					new BlockPos(
+						Mth.floor(this.mobState.getBoundingBox().minX), Mth.floor(this.mobState.getBoundingBox().minY), Mth.floor(this.mobState.getBoundingBox().minZ)
+					)
 				);
 		}
 
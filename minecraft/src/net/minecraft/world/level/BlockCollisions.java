@@ -10,6 +10,8 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.shapes.BooleanOp;
 import net.minecraft.world.phys.shapes.CollisionContext;
@@ -27,12 +29,20 @@ public class BlockCollisions<T> extends AbstractIterator<T> {
 	@Nullable
 	private BlockGetter cachedBlockGetter;
 	private long cachedBlockGetterPos;
+	private long cachedSectionPos = Long.MAX_VALUE;
+	private boolean cachedSectionEmpty;
 	private final BiFunction<BlockPos.MutableBlockPos, VoxelShape, T> resultProvider;
 
 	public BlockCollisions(
 		CollisionGetter collisionGetter, @Nullable Entity entity, AABB aABB, boolean bl, BiFunction<BlockPos.MutableBlockPos, VoxelShape, T> biFunction
 	) {
-		this.context = entity == null ? CollisionContext.empty() : CollisionContext.of(entity);
+		this(collisionGetter, entity == null ? CollisionContext.empty() : CollisionContext.of(entity), aABB, bl, biFunction);
+	}
+
+	public BlockCollisions(
+		CollisionGetter collisionGetter, CollisionContext collisionContext, AABB aABB, boolean bl, BiFunction<BlockPos.MutableBlockPos, VoxelShape, T> biFunction
+	) {
+		this.context = collisionContext;
 		this.pos = new BlockPos.MutableBlockPos();
 		this.entityShape = Shapes.create(aABB);
 		this.collisionGetter = collisionGetter;
@@ -63,6 +73,26 @@ public class BlockCollisions<T> extends AbstractIterator<T> {
 		}
 	}
 
+	private boolean isEmptySection(BlockGetter blockGetter, int i, int j, int k) {
+		if (blockGetter instanceof LevelChunk levelChunk) {
+			long l = SectionPos.asLong(SectionPos.blockToSectionCoord(i), SectionPos.blockToSectionCoord(j), SectionPos.blockToSectionCoord(k));
+			if (this.cachedSectionPos != l) {
+				this.cachedSectionPos = l;
+				if (levelChunk.getLevel().isDebug()) {
+					this.cachedSectionEmpty = false;
+				} else {
+					int m = levelChunk.getSectionIndex(j);
+					LevelChunkSection[] levelChunkSections = levelChunk.getSections();
+					this.cachedSectionEmpty = m < 0 || m >= levelChunkSections.length || levelChunkSections[m].hasOnlyAir();
+				}
+			}
+
+			return this.cachedSectionEmpty;
+		} else {
+			return false;
+		}
+	}
+
 	@Override
 	protected T computeNext() {
 		while(this.cursor.advance()) {
@@ -72,10 +102,11 @@ public class BlockCollisions<T> extends AbstractIterator<T> {
 			int l = this.cursor.getNextType();
 			if (l != 3) {
 				BlockGetter blockGetter = this.getChunk(i, k);
-				if (blockGetter != null) {
+				if (blockGetter != null && !this.isEmptySection(blockGetter, i, j, k)) {
 					this.pos.set(i, j, k);
 					BlockState blockState = blockGetter.getBlockState(this.pos);
-					if ((!this.onlySuffocatingBlocks || blockState.isSuffocating(blockGetter, this.pos))
+					if (!blockState.isAir()
+						&& (!this.onlySuffocatingBlocks || blockState.isSuffocating(blockGetter, this.pos))
 						&& (l != 1 || blockState.hasLargeCollisionShape())
 						&& (l != 2 || blockState.is(Blocks.MOVING_PISTON))) {
 						VoxelShape voxelShape = blockState.getCollisionShape(this.collisionGetter, this.pos, this.context);
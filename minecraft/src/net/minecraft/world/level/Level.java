@@ -90,7 +90,7 @@ public abstract class Level implements LevelAccessor, AutoCloseable {
 	protected final NeighborUpdater neighborUpdater;
 	private final List<TickingBlockEntity> pendingBlockEntityTickers = Lists.<TickingBlockEntity>newArrayList();
 	private boolean tickingBlockEntities;
-	private final Thread thread;
+	private Thread thread;
 	private final boolean isDebug;
 	private int skyDarken;
 	protected int randValue = RandomSource.create().nextInt();
@@ -620,6 +620,10 @@ public abstract class Level implements LevelAccessor, AutoCloseable {
 
 	public abstract String gatherChunkSourceStats();
 
+	protected void setThread(Thread thread) {
+		this.thread = thread;
+	}
+
 	@Nullable
 	@Override
 	public BlockEntity getBlockEntity(BlockPos blockPos) {
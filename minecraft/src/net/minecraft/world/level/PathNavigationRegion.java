@@ -8,8 +8,10 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.SectionPos;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.util.profiling.InactiveProfiler;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.biome.Biomes;
 import net.minecraft.world.level.block.Blocks;
@@ -19,8 +21,11 @@ import net.minecraft.world.level.border.WorldBorder;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkSource;
 import net.minecraft.world.level.chunk.EmptyLevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.level.pathfinder.PathfindingMobState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.shapes.VoxelShape;
 
@@ -31,9 +36,17 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
 	protected boolean allEmpty;
 	protected final Level level;
 	private final Supplier<Holder<Biome>> plains;
+	private final int minSectionY;
+	private final int maxSectionY;
+	@Nullable
+	private PathNavigationRegion.ChunkSnapshot[][] snapshots;
+	@Nullable
+	private PathfindingMobState mobState;
 
 	public PathNavigationRegion(Level level, BlockPos blockPos, BlockPos blockPos2) {
 		this.level = level;
+		this.minSectionY = SectionPos.blockToSectionCoord(blockPos.getY());
+		this.maxSectionY = SectionPos.blockToSectionCoord(blockPos2.getY());
 		this.plains = Suppliers.memoize(() -> level.registryAccess().registryOrThrow(Registries.BIOME).getHolderOrThrow(Biomes.PLAINS));
 		this.centerX = SectionPos.blockToSectionCoord(blockPos.getX());
 		this.centerZ = SectionPos.blockToSectionCoord(blockPos.getZ());
@@ -60,6 +73,46 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
 		}
 	}
 
+	public void markAsync(Mob mob) {
+		this.snapshots = new PathNavigationRegion.ChunkSnapshot[this.chunks.length][];
+
+		for(int i = 0; i < this.chunks.length; ++i) {
+			this.snapshots[i] = new PathNavigationRegion.ChunkSnapshot[this.chunks[i].length];
+
+			for(int j = 0; j < this.chunks[i].length; ++j) {
+				this.snapshots[i][j] = new PathNavigationRegion.ChunkSnapshot(this.level, this.chunks[i][j], this.minSectionY, this.maxSectionY);
+				this.chunks[i][j] = null;
+			}
+		}
+
+		this.mobState = new PathfindingMobState(mob, true);
+	}
+
+	public boolean isAsync() {
+		return this.snapshots != null;
+	}
+
+	@Nullable
+	public PathfindingMobState getMobState() {
+		return this.mobState;
+	}
+
+	private BlockGetter getBlockGetter(BlockPos blockPos) {
+		return this.getBlockGetter(SectionPos.blockToSectionCoord(blockPos.getX()), SectionPos.blockToSectionCoord(blockPos.getZ()));
+	}
+
+	private BlockGetter getBlockGetter(int i, int j) {
+		if (this.snapshots == null) {
+			return this.getChunk(i, j);
+		} else {
+			int k = i - this.centerX;
+			int l = j - this.centerZ;
+			return (BlockGetter)(k >= 0 && k < this.snapshots.length && l >= 0 && l < this.snapshots[k].length
+				? this.snapshots[k][l]
+				: new PathNavigationRegion.ChunkSnapshot(this.level, null, this.minSectionY, this.maxSectionY));
+		}
+	}
+
 	private ChunkAccess getChunk(BlockPos blockPos) {
 		return this.getChunk(SectionPos.blockToSectionCoord(blockPos.getX()), SectionPos.blockToSectionCoord(blockPos.getZ()));
 	}
@@ -82,7 +135,7 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
 
 	@Override
 	public BlockGetter getChunkForCollisions(int i, int j) {
-		return this.getChunk(i, j);
+		return this.getBlockGetter(i, j);
 	}
 
 	@Override
@@ -93,8 +146,8 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
 	@Nullable
 	@Override
 	public BlockEntity getBlockEntity(BlockPos blockPos) {
-		ChunkAccess chunkAccess = this.getChunk(blockPos);
-		return chunkAccess.getBlockEntity(blockPos);
+		BlockGetter blockGetter = this.getBlockGetter(blockPos);
+		return blockGetter.getBlockEntity(blockPos);
 	}
 
 	@Override
@@ -102,8 +155,8 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
 		if (this.isOutsideBuildHeight(blockPos)) {
 			return Blocks.AIR.defaultBlockState();
 		} else {
-			ChunkAccess chunkAccess = this.getChunk(blockPos);
-			return chunkAccess.getBlockState(blockPos);
+			BlockGetter blockGetter = this.getBlockGetter(blockPos);
+			return blockGetter.getBlockState(blockPos);
 		}
 	}
 
@@ -112,8 +165,8 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
 		if (this.isOutsideBuildHeight(blockPos)) {
 			return Fluids.EMPTY.defaultFluidState();
 		} else {
-			ChunkAccess chunkAccess = this.getChunk(blockPos);
-			return chunkAccess.getFluidState(blockPos);
+			BlockGetter blockGetter = this.getBlockGetter(blockPos);
+			return blockGetter.getFluidState(blockPos);
 		}
 	}
 
@@ -128,6 +181,65 @@ public class PathNavigationRegion implements BlockGetter, CollisionGetter {
 	}
 
 	public ProfilerFiller getProfiler() {
-		return this.level.getProfiler();
+		return (ProfilerFiller)(this.snapshots != null ? InactiveProfiler.INSTANCE : this.level.getProfiler());
+	}
+
+	static class ChunkSnapshot implements BlockGetter {
+		private final LevelHeightAccessor heightAccessor;
+		private final int minSectionY;
+		private final PalettedContainer<BlockState>[] sections;
+		private final boolean loaded;
+
+		ChunkSnapshot(LevelHeightAccessor levelHeightAccessor, @Nullable ChunkAccess chunkAccess, int i, int j) {
+			this.heightAccessor = levelHeightAccessor;
+			this.minSectionY = Math.max(i, levelHeightAccessor.getMinSection());
+			int k = Math.min(j, levelHeightAccessor.getMaxSection() - 1);
+			this.sections = new PalettedContainer[Math.max(k - this.minSectionY + 1, 0)];
+			this.loaded = chunkAccess != null;
+			if (chunkAccess != null) {
+				LevelChunkSection[] levelChunkSections = chunkAccess.getSections();
+
+				for(int l = 0; l < this.sections.length; ++l) {
+					LevelChunkSection levelChunkSection = levelChunkSections[chunkAccess.getSectionIndexFromSectionY(this.minSectionY + l)];
+					if (!levelChunkSection.hasOnlyAir()) {
+						this.sections[l] = levelChunkSection.getStatesSnapshot();
+					}
+				}
+			}
+		}
+
+		@Nullable
+		@Override
+		public BlockEntity getBlockEntity(BlockPos blockPos) {
+			return null;
+		}
+
+		@Override
+		public BlockState getBlockState(BlockPos blockPos) {
+			int i = SectionPos.blockToSectionCoord(blockPos.getY()) - this.minSectionY;
+			if (this.loaded && i >= 0 && i < this.sections.length) {
+				PalettedContainer<BlockState> palettedContainer = this.sections[i];
+				return palettedContainer == null
+					? Blocks.AIR.defaultBlockState()
+					: palettedContainer.get(blockPos.getX() & 15, blockPos.getY() & 15, blockPos.getZ() & 15);
+			} else {
+				return Blocks.VOID_AIR.defaultBlockState();
+			}
+		}
+
+		@Override
+		public FluidState getFluidState(BlockPos blockPos) {
+			return this.getBlockState(blockPos).getFluidState();
+		}
+
+		@Override
+		public int getHeight() {
+			return this.heightAccessor.getHeight();
+		}
+
+		@Override
+		public int getMinBuildHeight() {
+			return this.heightAccessor.getMinBuildHeight();
+		}
 	}
 }
@@ -59,7 +59,11 @@ public class EndPortalBlock extends BaseEntityBlock {
 				return;
 			}
 
-			entity.changeDimension(serverLevel);
+			serverLevel.getServer().executeAfterLevelTicks(() -> {
+				if (!entity.isRemoved() && entity.level() == level) {
+					entity.changeDimension(serverLevel);
+				}
+			});
 		}
 	}
 
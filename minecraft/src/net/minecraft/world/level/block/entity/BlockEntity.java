@@ -24,6 +24,7 @@ public abstract class BlockEntity {
 	protected final BlockPos worldPosition;
 	protected boolean remove;
 	private BlockState blockState;
+	private int changeCount;
 
 	public BlockEntity(BlockEntityType<?> blockEntityType, BlockPos blockPos, BlockState blockState) {
 		this.type = blockEntityType;
@@ -127,12 +128,28 @@ public abstract class BlockEntity {
 	}
 
 	public void setChanged() {
+		++this.changeCount;
 		if (this.level != null) {
-			setChanged(this.level, this.worldPosition, this.blockState);
+			markChanged(this.level, this.worldPosition, this.blockState);
 		}
 	}
 
+	public int getChangeCount() {
+		return this.changeCount;
+	}
+
 	protected static void setChanged(Level level, BlockPos blockPos, BlockState blockState) {
+		if (HopperBlockEntity.isEventDriven()) {
+			BlockEntity blockEntity = level.getBlockEntity(blockPos);
+			if (blockEntity != null) {
+				++blockEntity.changeCount;
+			}
+		}
+
+		markChanged(level, blockPos, blockState);
+	}
+
+	private static void markChanged(Level level, BlockPos blockPos, BlockState blockState) {
 		level.blockEntityChanged(blockPos);
 		if (!blockState.isAir()) {
 			level.updateNeighbourForOutputSignal(blockPos, blockState.getBlock());
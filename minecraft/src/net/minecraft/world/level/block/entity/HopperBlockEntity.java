@@ -10,6 +10,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.CompoundContainer;
 import net.minecraft.world.Container;
 import net.minecraft.world.ContainerHelper;
 import net.minecraft.world.WorldlyContainer;
@@ -33,14 +34,33 @@ import net.minecraft.world.phys.shapes.Shapes;
 public class HopperBlockEntity extends RandomizableContainerBlockEntity implements Hopper {
 	public static final int MOVE_ITEM_SPEED = 8;
 	public static final int HOPPER_CONTAINER_SIZE = 5;
+	private static final int MAX_SLEEP_TICKS = 20;
+	private static volatile boolean eventDriven;
 	private NonNullList<ItemStack> items = NonNullList.withSize(5, ItemStack.EMPTY);
 	private int cooldownTime = -1;
 	private long tickedGameTime;
+	@Nullable
+	private HopperBlockEntity.CachedContainer cachedSource;
+	@Nullable
+	private HopperBlockEntity.CachedContainer cachedTarget;
+	private boolean sleeping;
+	private long sleepUntil;
+	private int sleepChangeCount;
+	private int sleepSourceChangeCount;
+	private int sleepTargetChangeCount;
 
 	public HopperBlockEntity(BlockPos blockPos, BlockState blockState) {
 		super(BlockEntityType.HOPPER, blockPos, blockState);
 	}
 
+	public static void configureEventDriven(boolean bl) {
+		eventDriven = bl;
+	}
+
+	public static boolean isEventDriven() {
+		return eventDriven;
+	}
+
 	@Override
 	public void load(CompoundTag compoundTag) {
 		super.load(compoundTag);
@@ -92,7 +112,45 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
 		hopperBlockEntity.tickedGameTime = level.getGameTime();
 		if (!hopperBlockEntity.isOnCooldown()) {
 			hopperBlockEntity.setCooldown(0);
-			tryMoveItems(level, blockPos, blockState, hopperBlockEntity, () -> suckInItems(level, hopperBlockEntity));
+			if (!eventDriven) {
+				tryMoveItems(level, blockPos, blockState, hopperBlockEntity, () -> suckInItems(level, hopperBlockEntity));
+			} else if (!hopperBlockEntity.isSleeping(level, blockPos, blockState)
+				&& !tryMoveItems(level, blockPos, blockState, hopperBlockEntity, () -> suckInItems(level, hopperBlockEntity))) {
+				hopperBlockEntity.trySleep(level, blockPos, blockState);
+			}
+		}
+	}
+
+	private boolean isSleeping(Level level, BlockPos blockPos, BlockState blockState) {
+		if (this.sleeping) {
+			if (level.getGameTime() < this.sleepUntil
+				&& this.getChangeCount() == this.sleepChangeCount
+				&& this.cachedSource != null
+				&& this.cachedSource.isValid(blockPos.above())
+				&& this.cachedSource.getChangeCount() == this.sleepSourceChangeCount
+				&& this.cachedTarget != null
+				&& this.cachedTarget.isValid(blockPos.relative(blockState.getValue(HopperBlock.FACING)))
+				&& this.cachedTarget.getChangeCount() == this.sleepTargetChangeCount) {
+				return true;
+			}
+
+			this.sleeping = false;
+		}
+
+		return false;
+	}
+
+	private void trySleep(Level level, BlockPos blockPos, BlockState blockState) {
+		if (!level.isClientSide && blockState.getValue(HopperBlock.ENABLED)) {
+			getCachedSourceContainer(level, this);
+			getCachedAttachedContainer(level, blockPos, blockState, this);
+			if (this.cachedSource != null && this.cachedTarget != null) {
+				this.sleeping = true;
+				this.sleepUntil = level.getGameTime() + 20L;
+				this.sleepChangeCount = this.getChangeCount();
+				this.sleepSourceChangeCount = this.cachedSource.getChangeCount();
+				this.sleepTargetChangeCount = this.cachedTarget.getChangeCount();
+			}
 		}
 	}
 
@@ -133,25 +191,27 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
 		return true;
 	}
 
-	private static boolean ejectItems(Level level, BlockPos blockPos, BlockState blockState, Container container) {
-		Container container2 = getAttachedContainer(level, blockPos, blockState);
-		if (container2 == null) {
+	private static boolean ejectItems(Level level, BlockPos blockPos, BlockState blockState, HopperBlockEntity hopperBlockEntity) {
+		Container container = getCachedAttachedContainer(level, blockPos, blockState, hopperBlockEntity);
+		if (container == null) {
 			return false;
 		} else {
 			Direction direction = ((Direction)blockState.getValue(HopperBlock.FACING)).getOpposite();
-			if (isFullContainer(container2, direction)) {
+			if (isFullContainer(container, direction)) {
 				return false;
 			} else {
-				for(int i = 0; i < container.getContainerSize(); ++i) {
-					if (!container.getItem(i).isEmpty()) {
-						ItemStack itemStack = container.getItem(i).copy();
-						ItemStack itemStack2 = addItem(container, container2, container.removeItem(i, 1), direction);
+				for(int i = 0; i < hopperBlockEntity.getContainerSize(); ++i) {
+					if (!hopperBlockEntity.getItem(i).isEmpty()) {
+						ItemStack itemStack = eventDriven ? hopperBlockEntity.getItem(i) : hopperBlockEntity.getItem(i).copy();
+						int j = itemStack.getCount();
+						ItemStack itemStack2 = addItem(hopperBlockEntity, container, hopperBlockEntity.removeItem(i, 1), direction);
 						if (itemStack2.isEmpty()) {
-							container2.setChanged();
+							container.setChanged();
 							return true;
 						}
 
-						container.setItem(i, itemStack);
+						itemStack.setCount(j);
+						hopperBlockEntity.setItem(i, itemStack);
 					}
 				}
 
@@ -178,7 +238,9 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
 	}
 
 	public static boolean suckInItems(Level level, Hopper hopper) {
-		Container container = getSourceContainer(level, hopper);
+		Container container = hopper instanceof HopperBlockEntity hopperBlockEntity
+			? getCachedSourceContainer(level, hopperBlockEntity)
+			: getSourceContainer(level, hopper);
 		if (container != null) {
 			Direction direction = Direction.DOWN;
 			return isEmptyContainer(container, direction)
@@ -198,13 +260,15 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
 	private static boolean tryTakeInItemFromSlot(Hopper hopper, Container container, int i, Direction direction) {
 		ItemStack itemStack = container.getItem(i);
 		if (!itemStack.isEmpty() && canTakeItemFromContainer(hopper, container, itemStack, i, direction)) {
-			ItemStack itemStack2 = itemStack.copy();
+			ItemStack itemStack2 = eventDriven ? itemStack : itemStack.copy();
+			int j = itemStack2.getCount();
 			ItemStack itemStack3 = addItem(container, hopper, container.removeItem(i, 1), null);
 			if (itemStack3.isEmpty()) {
 				container.setChanged();
 				return true;
 			}
 
+			itemStack2.setCount(j);
 			container.setItem(i, itemStack2);
 		}
 
@@ -315,6 +379,38 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
 		return getContainerAt(level, hopper.getLevelX(), hopper.getLevelY() + 1.0, hopper.getLevelZ());
 	}
 
+	@Nullable
+	private static Container getCachedAttachedContainer(Level level, BlockPos blockPos, BlockState blockState, HopperBlockEntity hopperBlockEntity) {
+		if (!eventDriven) {
+			return getAttachedContainer(level, blockPos, blockState);
+		} else {
+			BlockPos blockPos2 = blockPos.relative(blockState.getValue(HopperBlock.FACING));
+			if (hopperBlockEntity.cachedTarget != null && hopperBlockEntity.cachedTarget.isValid(blockPos2)) {
+				return hopperBlockEntity.cachedTarget.container();
+			} else {
+				Container container = getContainerAt(level, blockPos2);
+				hopperBlockEntity.cachedTarget = HopperBlockEntity.CachedContainer.of(level, blockPos2, container);
+				return container;
+			}
+		}
+	}
+
+	@Nullable
+	private static Container getCachedSourceContainer(Level level, HopperBlockEntity hopperBlockEntity) {
+		if (!eventDriven) {
+			return getSourceContainer(level, hopperBlockEntity);
+		} else {
+			BlockPos blockPos = hopperBlockEntity.getBlockPos().above();
+			if (hopperBlockEntity.cachedSource != null && hopperBlockEntity.cachedSource.isValid(blockPos)) {
+				return hopperBlockEntity.cachedSource.container();
+			} else {
+				Container container = getContainerAt(level, blockPos);
+				hopperBlockEntity.cachedSource = HopperBlockEntity.CachedContainer.of(level, blockPos, container);
+				return container;
+			}
+		}
+	}
+
 	public static List<ItemEntity> getItemsAtAndAbove(Level level, Hopper hopper) {
 		return (List<ItemEntity>)hopper.getSuckShape()
 			.toAabbs()
@@ -420,4 +516,39 @@ public class HopperBlockEntity extends RandomizableContainerBlockEntity implemen
 	protected AbstractContainerMenu createMenu(int i, Inventory inventory) {
 		return new HopperMenu(i, inventory, this);
 	}
+
+	static record CachedContainer(
+		Container container, BlockEntity blockEntity, BlockState blockState, @Nullable BlockEntity otherBlockEntity, @Nullable BlockState otherBlockState
+	) {
+		@Nullable
+		static HopperBlockEntity.CachedContainer of(Level level, BlockPos blockPos, @Nullable Container container) {
+			if (container instanceof BlockEntity blockEntity) {
+				return new HopperBlockEntity.CachedContainer(container, blockEntity, blockEntity.getBlockState(), null, null);
+			} else if (container instanceof CompoundContainer compoundContainer) {
+				BlockEntity blockEntity = level.getBlockEntity(blockPos);
+				if (blockEntity instanceof ChestBlockEntity && compoundContainer.contains((Container)blockEntity)) {
+					BlockEntity blockEntity2 = level.getBlockEntity(blockPos.relative(ChestBlock.getConnectedDirection(blockEntity.getBlockState())));
+					if (blockEntity2 instanceof ChestBlockEntity && compoundContainer.contains((Container)blockEntity2)) {
+						return new HopperBlockEntity.CachedContainer(container, blockEntity, blockEntity.getBlockState(), blockEntity2, blockEntity2.getBlockState());
+					}
+				}
+
+				return null;
+			} else {
+				return null;
+			}
+		}
+
+		public boolean isValid(BlockPos blockPos) {
+			if (this.blockEntity.isRemoved() || this.blockEntity.getBlockState() != this.blockState || !this.blockEntity.getBlockPos().equals(blockPos)) {
+				return false;
+			} else {
+				return this.otherBlockEntity == null || !this.otherBlockEntity.isRemoved() && this.otherBlockEntity.getBlockState() == this.otherBlockState;
+			}
+		}
+
+		public int getChangeCount() {
+			return this.blockEntity.getChangeCount() + (this.otherBlockEntity == null ? 0 : this.otherBlockEntity.getChangeCount());
+		}
+	}
 }
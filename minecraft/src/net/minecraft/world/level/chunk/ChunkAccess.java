@@ -121,6 +121,10 @@ public abstract class ChunkAccess implements BlockGetter, BiomeManager.NoiseBiom
 		return GameEventListenerRegistry.NOOP;
 	}
 
+	public GameEventListenerRegistry getExistingListenerRegistry(int i) {
+		return this.getListenerRegistry(i);
+	}
+
 	@Nullable
 	public abstract BlockState setBlockState(BlockPos blockPos, BlockState blockState, boolean bl);
 
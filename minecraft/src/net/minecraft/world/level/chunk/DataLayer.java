@@ -10,9 +10,11 @@ public class DataLayer {
 	public static final int LAYER_SIZE = 128;
 	public static final int SIZE = 2048;
 	private static final int NIBBLE_SIZE = 4;
+	private static final byte[][] FILLED = createFilled();
 	@Nullable
 	protected byte[] data;
 	private int defaultValue;
+	private volatile boolean shared;
 
 	public DataLayer() {
 		this(0);
@@ -27,6 +29,12 @@ public class DataLayer {
 		this.defaultValue = 0;
 		if (bs.length != 2048) {
 			throw (IllegalArgumentException)Util.pauseInIde(new IllegalArgumentException("DataLayer should be 2048 bytes not: " + bs.length));
+		} else {
+			int i = bs[0] & 15;
+			if (bs == FILLED[i]) {
+				this.defaultValue = i;
+				this.shared = true;
+			}
 		}
 	}
 
@@ -43,17 +51,18 @@ public class DataLayer {
 	}
 
 	private int get(int i) {
-		if (this.data == null) {
+		byte[] bs = this.data;
+		if (bs == null) {
 			return this.defaultValue;
 		} else {
 			int j = getByteIndex(i);
 			int k = getNibbleIndex(i);
-			return this.data[j] >> 4 * k & 15;
+			return bs[j] >> 4 * k & 15;
 		}
 	}
 
 	private void set(int i, int j) {
-		byte[] bs = this.getData();
+		byte[] bs = this.getWritableData();
 		int k = getByteIndex(i);
 		int l = getNibbleIndex(i);
 		int m = ~(15 << 4 * l);
@@ -72,6 +81,25 @@ public class DataLayer {
 	public void fill(int i) {
 		this.defaultValue = i;
 		this.data = null;
+		this.shared = false;
+	}
+
+	public void compact() {
+		byte[] bs = this.data;
+		if (bs != null && !this.isDefinitelyHomogenous()) {
+			byte b = bs[0];
+			if ((b & 15) == (b >> 4 & 15)) {
+				for(int i = 1; i < 2048; ++i) {
+					if (bs[i] != b) {
+						return;
+					}
+				}
+
+				this.defaultValue = b & 15;
+				this.data = FILLED[this.defaultValue];
+				this.shared = true;
+			}
+		}
 	}
 
 	private static byte packFilled(int i) {
@@ -84,19 +112,46 @@ public class DataLayer {
 		return b;
 	}
 
+	private static byte[][] createFilled() {
+		byte[][] bs = new byte[16][2048];
+
+		for(int i = 0; i < 16; ++i) {
+			Arrays.fill(bs[i], packFilled(i));
+		}
+
+		return bs;
+	}
+
 	public byte[] getData() {
 		if (this.data == null) {
-			this.data = new byte[2048];
-			if (this.defaultValue != 0) {
-				Arrays.fill(this.data, packFilled(this.defaultValue));
-			}
+			this.data = FILLED[this.defaultValue];
+			this.shared = true;
 		}
 
 		return this.data;
 	}
 
+	private byte[] getWritableData() {
+		byte[] bs = this.getData();
+		if (this.shared) {
+			bs = (byte[])bs.clone();
+			this.data = bs;
+			this.shared = false;
+		}
+
+		return bs;
+	}
+
 	public DataLayer copy() {
-		return this.data == null ? new DataLayer(this.defaultValue) : new DataLayer((byte[])this.data.clone());
+		if (this.data == null) {
+			return new DataLayer(this.defaultValue);
+		} else {
+			this.shared = true;
+			DataLayer dataLayer = new DataLayer(this.data);
+			dataLayer.defaultValue = this.defaultValue;
+			dataLayer.shared = true;
+			return dataLayer;
+		}
 	}
 
 	public String toString() {
@@ -130,12 +185,16 @@ public class DataLayer {
 		return stringBuilder.toString();
 	}
 
+	public boolean isShared() {
+		return this.shared;
+	}
+
 	public boolean isDefinitelyHomogenous() {
-		return this.data == null;
+		return this.data == null || this.data == FILLED[this.defaultValue];
 	}
 
 	public boolean isDefinitelyFilledWith(int i) {
-		return this.data == null && this.defaultValue == i;
+		return this.isDefinitelyHomogenous() && this.defaultValue == i;
 	}
 
 	public boolean isEmpty() {
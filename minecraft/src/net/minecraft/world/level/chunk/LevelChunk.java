@@ -76,6 +76,7 @@ public class LevelChunk extends ChunkAccess {
 		
 	);
 	private boolean loaded;
+	private int blockChangeCount;
 	final Level level;
 	@Nullable
 	private Supplier<FullChunkStatus> fullStatus;
@@ -84,6 +85,8 @@ public class LevelChunk extends ChunkAccess {
 	private final Int2ObjectMap<GameEventListenerRegistry> gameEventListenerRegistrySections;
 	private final LevelChunkTicks<Block> blockTicks;
 	private final LevelChunkTicks<Fluid> fluidTicks;
+	@Nullable
+	private byte[][] pathTypeCache;
 
 	public LevelChunk(Level level, ChunkPos chunkPos) {
 		this(level, chunkPos, UpgradeData.EMPTY, new LevelChunkTicks<>(), new LevelChunkTicks<>(), 0L, null, null, null);
@@ -175,12 +178,58 @@ public class LevelChunk extends ChunkAccess {
 				.computeIfAbsent(
 					i,
 					(Int2ObjectFunction<? extends GameEventListenerRegistry>)(j -> new EuclideanGameEventListenerRegistry(
-							serverLevel, i, this::removeGameEventListenerRegistry
+							serverLevel, SectionPos.asLong(this.chunkPos.x, i, this.chunkPos.z), i, this::removeGameEventListenerRegistry
 						))
 				)
 			: super.getListenerRegistry(i);
 	}
 
+	public byte getCachedPathType(int i, int j, int k) {
+		if (this.pathTypeCache != null) {
+			int l = this.getSectionIndex(j);
+			if (l >= 0 && l < this.pathTypeCache.length && this.pathTypeCache[l] != null) {
+				return this.pathTypeCache[l][(j & 15) << 8 | (k & 15) << 4 | i & 15];
+			}
+		}
+
+		return 0;
+	}
+
+	public void setCachedPathType(int i, int j, int k, byte b) {
+		int l = this.getSectionIndex(j);
+		if (l >= 0 && l < this.getSectionsCount()) {
+			if (this.pathTypeCache == null) {
+				this.pathTypeCache = new byte[this.getSectionsCount()][];
+			}
+
+			if (this.pathTypeCache[l] == null) {
+				this.pathTypeCache[l] = new byte[4096];
+			}
+
+			this.pathTypeCache[l][(j & 15) << 8 | (k & 15) << 4 | i & 15] = b;
+		}
+	}
+
+	private void invalidatePathTypes(int i, int j, int k) {
+		for(int l = j - 1; l <= j + 1; ++l) {
+			int m = this.getSectionIndex(l);
+			if (m >= 0 && m < this.pathTypeCache.length && this.pathTypeCache[m] != null) {
+				byte[] bs = this.pathTypeCache[m];
+
+				for(int n = Math.max(i - 1, 0); n <= Math.min(i + 1, 15); ++n) {
+					for(int o = Math.max(k - 1, 0); o <= Math.min(k + 1, 15); ++o) {
+						bs[(l & 15) << 8 | o << 4 | n] = 0;
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public GameEventListenerRegistry getExistingListenerRegistry(int i) {
+		return this.gameEventListenerRegistrySections.getOrDefault(i, GameEventListenerRegistry.NOOP);
+	}
+
 	@Override
 	public BlockState getBlockState(BlockPos blockPos) {
 		int i = blockPos.getX();
@@ -257,6 +306,11 @@ public class LevelChunk extends ChunkAccess {
 			if (blockState2 == blockState) {
 				return null;
 			} else {
+				++this.blockChangeCount;
+				if (this.pathTypeCache != null) {
+					this.invalidatePathTypes(j, i, l);
+				}
+
 				Block block = blockState.getBlock();
 				((Heightmap)this.heightmaps.get(Heightmap.Types.MOTION_BLOCKING)).update(j, i, l, blockState);
 				((Heightmap)this.heightmaps.get(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES)).update(j, i, l, blockState);
@@ -310,6 +364,10 @@ public class LevelChunk extends ChunkAccess {
 		}
 	}
 
+	public int getBlockChangeCount() {
+		return this.blockChangeCount;
+	}
+
 	@Deprecated
 	@Override
 	public void addEntity(Entity entity) {
@@ -1,6 +1,8 @@
 package net.minecraft.world.level.chunk;
 
+import java.util.Arrays;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.network.FriendlyByteBuf;
@@ -23,6 +25,11 @@ public class LevelChunkSection {
 	private short tickingFluidCount;
 	private final PalettedContainer<BlockState> states;
 	private PalettedContainerRO<Holder<Biome>> biomes;
+	@Nullable
+	private short[] randomTickPositions;
+	private int randomTickPositionCount;
+	@Nullable
+	private PalettedContainer<BlockState> statesSnapshot;
 
 	public LevelChunkSection(PalettedContainer<BlockState> palettedContainer, PalettedContainerRO<Holder<Biome>> palettedContainerRO) {
 		this.states = palettedContainer;
@@ -30,6 +37,14 @@ public class LevelChunkSection {
 		this.recalcBlockCounts();
 	}
 
+	private LevelChunkSection(LevelChunkSection levelChunkSection) {
+		this.nonEmptyBlockCount = levelChunkSection.nonEmptyBlockCount;
+		this.tickingBlockCount = levelChunkSection.tickingBlockCount;
+		this.tickingFluidCount = levelChunkSection.tickingFluidCount;
+		this.states = levelChunkSection.states.copy();
+		this.biomes = levelChunkSection.biomes.copy();
+	}
+
 	public LevelChunkSection(Registry<Biome> registry) {
 		this.states = new PalettedContainer<>(Block.BLOCK_STATE_REGISTRY, Blocks.AIR.defaultBlockState(), PalettedContainer.Strategy.SECTION_STATES);
 		this.biomes = new PalettedContainer<>(registry.asHolderIdMap(), registry.getHolderOrThrow(Biomes.PLAINS), PalettedContainer.Strategy.SECTION_BIOMES);
@@ -63,6 +78,10 @@ public class LevelChunkSection {
 			blockState2 = this.states.getAndSetUnchecked(i, j, k, blockState);
 		}
 
+		if (blockState2 != blockState) {
+			this.statesSnapshot = null;
+		}
+
 		FluidState fluidState = blockState2.getFluidState();
 		FluidState fluidState2 = blockState.getFluidState();
 		if (!blockState2.isAir()) {
@@ -87,9 +106,70 @@ public class LevelChunkSection {
 			++this.tickingFluidCount;
 		}
 
+		if (this.randomTickPositions != null) {
+			boolean bl2 = isRandomTickCandidate(blockState2);
+			if (bl2 != isRandomTickCandidate(blockState)) {
+				short s = (short)(j << 8 | k << 4 | i);
+				if (bl2) {
+					this.removeRandomTickPosition(s);
+				} else {
+					this.addRandomTickPosition(s);
+				}
+			}
+		}
+
 		return blockState2;
 	}
 
+	private static boolean isRandomTickCandidate(BlockState blockState) {
+		return blockState.isRandomlyTicking() || blockState.getFluidState().isRandomlyTicking();
+	}
+
+	public int getRandomTickPositionCount() {
+		if (this.randomTickPositions == null) {
+			this.rebuildRandomTickPositions();
+		}
+
+		return this.randomTickPositionCount;
+	}
+
+	public int getRandomTickPosition(int i) {
+		return this.randomTickPositions[i];
+	}
+
+	private void rebuildRandomTickPositions() {
+		this.randomTickPositions = new short[16];
+		this.randomTickPositionCount = 0;
+		if (this.isRandomlyTicking()) {
+			for(int i = 0; i < 16; ++i) {
+				for(int j = 0; j < 16; ++j) {
+					for(int k = 0; k < 16; ++k) {
+						if (isRandomTickCandidate(this.states.get(k, i, j))) {
+							this.addRandomTickPosition((short)(i << 8 | j << 4 | k));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private void addRandomTickPosition(short s) {
+		if (this.randomTickPositionCount == this.randomTickPositions.length) {
+			this.randomTickPositions = Arrays.copyOf(this.randomTickPositions, this.randomTickPositionCount * 2);
+		}
+
+		this.randomTickPositions[this.randomTickPositionCount++] = s;
+	}
+
+	private void removeRandomTickPosition(short s) {
+		for(int i = 0; i < this.randomTickPositionCount; ++i) {
+			if (this.randomTickPositions[i] == s) {
+				this.randomTickPositions[i] = this.randomTickPositions[--this.randomTickPositionCount];
+				return;
+			}
+		}
+	}
+
 	public boolean hasOnlyAir() {
 		return this.nonEmptyBlockCount == 0;
 	}
@@ -135,18 +215,29 @@ public class LevelChunkSection {
 		this.nonEmptyBlockCount = (short)lv.nonEmptyBlockCount;
 		this.tickingBlockCount = (short)lv.tickingBlockCount;
 		this.tickingFluidCount = (short)lv.tickingFluidCount;
+		this.randomTickPositions = null;
 	}
 
 	public PalettedContainer<BlockState> getStates() {
 		return this.states;
 	}
 
+	public PalettedContainer<BlockState> getStatesSnapshot() {
+		if (this.statesSnapshot == null) {
+			this.statesSnapshot = this.states.copy();
+		}
+
+		return this.statesSnapshot;
+	}
+
 	public PalettedContainerRO<Holder<Biome>> getBiomes() {
 		return this.biomes;
 	}
 
 	public void read(FriendlyByteBuf friendlyByteBuf) {
 		this.nonEmptyBlockCount = friendlyByteBuf.readShort();
+		this.randomTickPositions = null;
+		this.statesSnapshot = null;
 		this.states.read(friendlyByteBuf);
 		PalettedContainer<Holder<Biome>> palettedContainer = this.biomes.recreate();
 		palettedContainer.read(friendlyByteBuf);
@@ -165,6 +256,10 @@ public class LevelChunkSection {
 		this.biomes.write(friendlyByteBuf);
 	}
 
+	public LevelChunkSection copy() {
+		return new LevelChunkSection(this);
+	}
+
 	public int getSerializedSize() {
 		return 2 + this.states.getSerializedSize() + this.biomes.getSerializedSize();
 	}
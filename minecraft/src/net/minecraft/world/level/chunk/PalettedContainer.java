@@ -270,6 +270,7 @@ public class PalettedContainer<T> implements PaletteResize<T>, PalettedContainer
 		return this.data.palette.maybeHas(predicate);
 	}
 
+	@Override
 	public PalettedContainer<T> copy() {
 		return new PalettedContainer<>(this.registry, this.strategy, this.data.copy());
 	}
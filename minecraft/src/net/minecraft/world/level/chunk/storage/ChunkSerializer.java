@@ -1,5 +1,6 @@
 package net.minecraft.world.level.chunk.storage;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.mojang.logging.LogUtils;
 import com.mojang.serialization.Codec;
@@ -9,6 +10,7 @@ import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.shorts.ShortList;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Map.Entry;
@@ -138,11 +140,15 @@ public class ChunkSerializer {
 				}
 
 				if (bl4) {
-					levelLightEngine.queueSectionData(LightLayer.BLOCK, SectionPos.of(chunkPos, k), new DataLayer(compoundTag2.getByteArray("BlockLight")));
+					DataLayer dataLayer = new DataLayer(compoundTag2.getByteArray("BlockLight"));
+					dataLayer.compact();
+					levelLightEngine.queueSectionData(LightLayer.BLOCK, SectionPos.of(chunkPos, k), dataLayer);
 				}
 
 				if (bl5) {
-					levelLightEngine.queueSectionData(LightLayer.SKY, SectionPos.of(chunkPos, k), new DataLayer(compoundTag2.getByteArray("SkyLight")));
+					DataLayer dataLayer = new DataLayer(compoundTag2.getByteArray("SkyLight"));
+					dataLayer.compact();
+					levelLightEngine.queueSectionData(LightLayer.SKY, SectionPos.of(chunkPos, k), dataLayer);
 				}
 			}
 		}
@@ -272,6 +278,10 @@ public class ChunkSerializer {
 	}
 
 	public static CompoundTag write(ServerLevel serverLevel, ChunkAccess chunkAccess) {
+		return prepareWrite(serverLevel, chunkAccess).write();
+	}
+
+	public static ChunkSerializer.AsyncSaveData prepareWrite(ServerLevel serverLevel, ChunkAccess chunkAccess) {
 		ChunkPos chunkPos = chunkAccess.getPos();
 		CompoundTag compoundTag = NbtUtils.addCurrentDataVersion(new CompoundTag());
 		compoundTag.putInt("xPos", chunkPos.x);
@@ -299,7 +309,7 @@ public class ChunkSerializer {
 		}
 
 		LevelChunkSection[] levelChunkSections = chunkAccess.getSections();
-		ListTag listTag = new ListTag();
+		List<ChunkSerializer.SectionData> list = Lists.<ChunkSerializer.SectionData>newArrayList();
 		LevelLightEngine levelLightEngine = serverLevel.getChunkSource().getLightEngine();
 		Registry<Biome> registry = serverLevel.registryAccess().registryOrThrow(Registries.BIOME);
 		Codec<PalettedContainerRO<Holder<Biome>>> codec = makeBiomeCodec(registry);
@@ -311,29 +321,19 @@ public class ChunkSerializer {
 			DataLayer dataLayer = levelLightEngine.getLayerListener(LightLayer.BLOCK).getDataLayerData(SectionPos.of(chunkPos, i));
 			DataLayer dataLayer2 = levelLightEngine.getLayerListener(LightLayer.SKY).getDataLayerData(SectionPos.of(chunkPos, i));
 			if (bl2 || dataLayer != null || dataLayer2 != null) {
-				CompoundTag compoundTag2 = new CompoundTag();
-				if (bl2) {
-					LevelChunkSection levelChunkSection = levelChunkSections[j];
-					compoundTag2.put("block_states", BLOCK_STATE_CODEC.encodeStart(NbtOps.INSTANCE, levelChunkSection.getStates()).getOrThrow(false, LOGGER::error));
-					compoundTag2.put("biomes", codec.encodeStart(NbtOps.INSTANCE, levelChunkSection.getBiomes()).getOrThrow(false, LOGGER::error));
-				}
-
-				if (dataLayer != null && !dataLayer.isEmpty()) {
-					compoundTag2.putByteArray("BlockLight", dataLayer.getData());
-				}
-
-				if (dataLayer2 != null && !dataLayer2.isEmpty()) {
-					compoundTag2.putByteArray("SkyLight", dataLayer2.getData());
-				}
-
-				if (!compoundTag2.isEmpty()) {
-					compoundTag2.putByte("Y", (byte)i);
-					listTag.add(compoundTag2);
-				}
+				LevelChunkSection levelChunkSection = bl2 ? levelChunkSections[j] : null;
+				list.add(
+					new ChunkSerializer.SectionData(
+						i,
+						levelChunkSection != null ? levelChunkSection.getStates().copy() : null,
+						levelChunkSection != null ? levelChunkSection.getBiomes().copy() : null,
+						dataLayer != null && !dataLayer.isEmpty() ? dataLayer.copy() : null,
+						dataLayer2 != null && !dataLayer2.isEmpty() ? dataLayer2.copy() : null
+					)
+				);
 			}
 		}
 
-		compoundTag.put("sections", listTag);
 		if (bl) {
 			compoundTag.putBoolean("isLightOn", true);
 		}
@@ -380,7 +380,7 @@ public class ChunkSerializer {
 			"structures",
 			packStructureData(StructurePieceSerializationContext.fromLevel(serverLevel), chunkPos, chunkAccess.getAllStarts(), chunkAccess.getAllReferences())
 		);
-		return compoundTag;
+		return new ChunkSerializer.AsyncSaveData(compoundTag, list, codec);
 	}
 
 	private static void saveTicks(ServerLevel serverLevel, CompoundTag compoundTag, ChunkAccess.TicksToSave ticksToSave) {
@@ -520,4 +520,48 @@ public class ChunkSerializer {
 
 		return listTag;
 	}
+
+	public static record AsyncSaveData(CompoundTag tag, List<ChunkSerializer.SectionData> sections, Codec<PalettedContainerRO<Holder<Biome>>> biomeCodec) {
+		public CompoundTag write() {
+			ListTag listTag = new ListTag();
+
+			for(ChunkSerializer.SectionData sectionData : this.sections) {
+				CompoundTag compoundTag = new CompoundTag();
+				if (sectionData.states() != null) {
+					compoundTag.put(
+						"block_states", ChunkSerializer.BLOCK_STATE_CODEC.encodeStart(NbtOps.INSTANCE, sectionData.states()).getOrThrow(false, ChunkSerializer.LOGGER::error)
+					);
+				}
+
+				if (sectionData.biomes() != null) {
+					compoundTag.put("biomes", this.biomeCodec.encodeStart(NbtOps.INSTANCE, sectionData.biomes()).getOrThrow(false, ChunkSerializer.LOGGER::error));
+				}
+
+				if (sectionData.blockLight() != null) {
+					compoundTag.putByteArray("BlockLight", (byte[])sectionData.blockLight().getData().clone());
+				}
+
+				if (sectionData.skyLight() != null) {
+					compoundTag.putByteArray("SkyLight", (byte[])sectionData.skyLight().getData().clone());
+				}
+
+				if (!compoundTag.isEmpty()) {
+					compoundTag.putByte("Y", (byte)sectionData.y());
+					listTag.add(compoundTag);
+				}
+			}
+
+			this.tag.put("sections", listTag);
+			return this.tag;
+		}
+	}
+
+	static record SectionData(
+		int y,
+		@Nullable PalettedContainer<BlockState> states,
+		@Nullable PalettedContainerRO<Holder<Biome>> biomes,
+		@Nullable DataLayer blockLight,
+		@Nullable DataLayer skyLight
+	) {
+	}
 }
@@ -1,14 +1,17 @@
 package net.minecraft.world.level.chunk.storage;
 
+import com.google.common.collect.Maps;
 import com.mojang.datafixers.DataFixer;
 import com.mojang.serialization.Codec;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import net.minecraft.SharedConstants;
+import net.minecraft.Util;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.resources.ResourceKey;
@@ -25,6 +28,7 @@ public class ChunkStorage implements AutoCloseable {
 	protected final DataFixer fixerUpper;
 	@Nullable
 	private volatile LegacyStructureDataHandler legacyStructureHandler;
+	private final Map<ChunkPos, CompletableFuture<CompoundTag>> pendingSerializations = Maps.<ChunkPos, CompletableFuture<CompoundTag>>newConcurrentMap();
 
 	public ChunkStorage(Path path, DataFixer dataFixer, boolean bl) {
 		this.fixerUpper = dataFixer;
@@ -90,21 +94,51 @@ public class ChunkStorage implements AutoCloseable {
 	}
 
 	public CompletableFuture<Optional<CompoundTag>> read(ChunkPos chunkPos) {
-		return this.worker.loadAsync(chunkPos);
+		CompletableFuture<CompoundTag> completableFuture = (CompletableFuture)this.pendingSerializations.get(chunkPos);
+		return completableFuture != null
+			? completableFuture.thenApply(Optional::of).exceptionallyCompose(throwable -> this.worker.loadAsync(chunkPos))
+			: this.worker.loadAsync(chunkPos);
 	}
 
 	public void write(ChunkPos chunkPos, CompoundTag compoundTag) {
-		this.worker.store(chunkPos, compoundTag);
+		if (this.pendingSerializations.containsKey(chunkPos)) {
+			this.write(chunkPos, () -> compoundTag);
+		} else {
+			this.worker.store(chunkPos, compoundTag);
+			if (this.legacyStructureHandler != null) {
+				this.legacyStructureHandler.removeIndex(chunkPos.toLong());
+			}
+		}
+	}
+
+	public CompletableFuture<CompoundTag> write(ChunkPos chunkPos, Supplier<CompoundTag> supplier) {
+		CompletableFuture<CompoundTag> completableFuture = (CompletableFuture)this.pendingSerializations.get(chunkPos);
+		CompletableFuture<?> completableFuture2 = completableFuture != null ? completableFuture : CompletableFuture.completedFuture(null);
+		CompletableFuture<CompoundTag> completableFuture3 = completableFuture2.handleAsync((object, throwable) -> (CompoundTag)supplier.get(), Util.backgroundExecutor())
+			.thenApply(compoundTag -> {
+				this.worker.store(chunkPos, compoundTag);
+				return compoundTag;
+			});
+		this.pendingSerializations.put(chunkPos, completableFuture3);
+		completableFuture3.whenComplete((compoundTag, throwable) -> this.pendingSerializations.remove(chunkPos, completableFuture3));
 		if (this.legacyStructureHandler != null) {
 			this.legacyStructureHandler.removeIndex(chunkPos.toLong());
 		}
+
+		return completableFuture3;
+	}
+
+	private void awaitPendingSerializations() {
+		CompletableFuture.allOf((CompletableFuture[])this.pendingSerializations.values().toArray(i -> new CompletableFuture[i])).handle((void_, throwable) -> null).join();
 	}
 
 	public void flushWorker() {
+		this.awaitPendingSerializations();
 		this.worker.synchronize(true).join();
 	}
 
 	public void close() throws IOException {
+		this.awaitPendingSerializations();
 		this.worker.close();
 	}
 
@@ -1,17 +1,26 @@
 package net.minecraft.world.level.chunk.storage;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.mojang.datafixers.util.Pair;
 import com.mojang.datafixers.util.Either;
 import com.mojang.logging.LogUtils;
 import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
 import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
 import java.nio.file.Path;
 import java.util.BitSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,14 +45,22 @@ public class IOWorker implements ChunkScanAccess, AutoCloseable {
 	private final ProcessorMailbox<StrictQueue.IntRunnable> mailbox;
 	private final RegionFileStorage storage;
 	private final Map<ChunkPos, IOWorker.PendingStore> pendingWrites = Maps.<ChunkPos, IOWorker.PendingStore>newLinkedHashMap();
+	private final Long2ObjectMap<Set<ChunkPos>> pendingWritesByRegion = new Long2ObjectOpenHashMap<>();
 	private final Long2ObjectLinkedOpenHashMap<CompletableFuture<BitSet>> regionCacheForBlender = new Long2ObjectLinkedOpenHashMap();
 	private static final int REGION_CACHE_SIZE = 1024;
+	private static volatile int writeBatchSize = 1;
+	private final int batchSize;
 
 	protected IOWorker(Path path, boolean bl, String string) {
-		this.storage = new RegionFileStorage(path, bl);
+		this.batchSize = writeBatchSize;
+		this.storage = new RegionFileStorage(path, bl, this.batchSize > 1);
 		this.mailbox = new ProcessorMailbox<>(new StrictQueue.FixedPriorityQueue(IOWorker.Priority.values().length), Util.ioPool(), "IOWorker-" + string);
 	}
 
+	public static void configureWriteBatchSize(int i) {
+		writeBatchSize = Math.max(1, i);
+	}
+
 	public boolean isOldChunkAround(ChunkPos chunkPos, int i) {
 		ChunkPos chunkPos2 = new ChunkPos(chunkPos.x - i, chunkPos.z - i);
 		ChunkPos chunkPos3 = new ChunkPos(chunkPos.x + i, chunkPos.z + i);
@@ -122,7 +139,13 @@ public class IOWorker implements ChunkScanAccess, AutoCloseable {
 		return this.submitTask(
 				() -> {
 					IOWorker.PendingStore pendingStore = (IOWorker.PendingStore)this.pendingWrites
-						.computeIfAbsent(chunkPos, chunkPosxx -> new IOWorker.PendingStore(compoundTag));
+						.computeIfAbsent(chunkPos, chunkPosxx -> {
+							if (this.batchSize > 1) {
+								this.pendingWritesByRegion.computeIfAbsent(getRegionKey(chunkPosxx), l -> new ObjectLinkedOpenHashSet()).add(chunkPosxx);
+							}
+
+							return new IOWorker.PendingStore(compoundTag);
+						});
 					pendingStore.data = compoundTag;
 					return Either.left(pendingStore.result);
 				}
@@ -131,20 +154,38 @@ public class IOWorker implements ChunkScanAccess, AutoCloseable {
 	}
 
 	public CompletableFuture<Optional<CompoundTag>> loadAsync(ChunkPos chunkPos) {
-		return this.submitTask(() -> {
+		return this.<CompletableFuture<Optional<CompoundTag>>>submitTask(() -> {
 			IOWorker.PendingStore pendingStore = (IOWorker.PendingStore)this.pendingWrites.get(chunkPos);
 			if (pendingStore != null) {
-				return Either.left(Optional.ofNullable(pendingStore.data));
+				return Either.left(CompletableFuture.completedFuture(Optional.ofNullable(pendingStore.data)));
 			} else {
 				try {
-					CompoundTag compoundTag = this.storage.read(chunkPos);
-					return Either.left(Optional.ofNullable(compoundTag));
-				} catch (Exception var4) {
-					LOGGER.warn("Failed to read chunk {}", chunkPos, var4);
-					return Either.right(var4);
+					RegionFile regionFile = this.storage.getRegionFile(chunkPos);
+					if (regionFile.isMemoryMapped()) {
+						return Either.left(this.readInParallel(regionFile, chunkPos));
+					} else {
+						CompoundTag compoundTag = RegionFileStorage.read(regionFile, chunkPos);
+						return Either.left(CompletableFuture.completedFuture(Optional.ofNullable(compoundTag)));
+					}
+				} catch (Exception var5) {
+					LOGGER.warn("Failed to read chunk {}", chunkPos, var5);
+					return Either.right(var5);
 				}
 			}
-		});
+		}).thenCompose(Function.identity());
+	}
+
+	private CompletableFuture<Optional<CompoundTag>> readInParallel(RegionFile regionFile, ChunkPos chunkPos) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return Optional.ofNullable(RegionFileStorage.read(regionFile, chunkPos));
+			} catch (ClosedChannelException var4) {
+				return null;
+			} catch (Exception var5) {
+				LOGGER.warn("Failed to read chunk {}", chunkPos, var5);
+				throw new CompletionException(var5);
+			}
+		}, Util.backgroundExecutor()).thenCompose(optional -> optional != null ? CompletableFuture.completedFuture(optional) : this.loadAsync(chunkPos));
 	}
 
 	public CompletableFuture<Void> synchronize(boolean bl) {
@@ -203,11 +244,59 @@ public class IOWorker implements ChunkScanAccess, AutoCloseable {
 			Iterator<Entry<ChunkPos, IOWorker.PendingStore>> iterator = this.pendingWrites.entrySet().iterator();
 			Entry<ChunkPos, IOWorker.PendingStore> entry = (Entry)iterator.next();
 			iterator.remove();
-			this.runStore((ChunkPos)entry.getKey(), (IOWorker.PendingStore)entry.getValue());
+			if (this.batchSize > 1) {
+				this.runStoreBatch(this.collectBatch((ChunkPos)entry.getKey(), (IOWorker.PendingStore)entry.getValue()));
+			} else {
+				this.runStore((ChunkPos)entry.getKey(), (IOWorker.PendingStore)entry.getValue());
+			}
+
 			this.tellStorePending();
 		}
 	}
 
+	private List<Pair<ChunkPos, IOWorker.PendingStore>> collectBatch(ChunkPos chunkPos, IOWorker.PendingStore pendingStore) {
+		List<Pair<ChunkPos, IOWorker.PendingStore>> list = Lists.<Pair<ChunkPos, IOWorker.PendingStore>>newArrayList();
+		list.add(Pair.of(chunkPos, pendingStore));
+		long l = getRegionKey(chunkPos);
+		Set<ChunkPos> set = this.pendingWritesByRegion.get(l);
+		if (set != null) {
+			set.remove(chunkPos);
+			Iterator<ChunkPos> iterator = set.iterator();
+
+			while(iterator.hasNext() && list.size() < this.batchSize) {
+				ChunkPos chunkPos2 = (ChunkPos)iterator.next();
+				iterator.remove();
+				list.add(Pair.of(chunkPos2, (IOWorker.PendingStore)this.pendingWrites.remove(chunkPos2)));
+			}
+
+			if (set.isEmpty()) {
+				this.pendingWritesByRegion.remove(l);
+			}
+		}
+
+		return list;
+	}
+
+	private static long getRegionKey(ChunkPos chunkPos) {
+		return ChunkPos.asLong(chunkPos.getRegionX(), chunkPos.getRegionZ());
+	}
+
+	private void runStoreBatch(List<Pair<ChunkPos, IOWorker.PendingStore>> list) {
+		try {
+			this.storage.write(list.stream().map(pair -> Pair.of((ChunkPos)pair.getFirst(), ((IOWorker.PendingStore)pair.getSecond()).data)).toList());
+
+			for(Pair<ChunkPos, IOWorker.PendingStore> pair : list) {
+				pair.getSecond().result.complete(null);
+			}
+		} catch (Exception var5) {
+			LOGGER.warn("Failed to store batch of {} chunks starting at {}, storing them one by one", list.size(), list.get(0).getFirst(), var5);
+
+			for(Pair<ChunkPos, IOWorker.PendingStore> pair : list) {
+				this.runStore(pair.getFirst(), pair.getSecond());
+			}
+		}
+	}
+
 	private void tellStorePending() {
 		this.mailbox.tell(new StrictQueue.IntRunnable(IOWorker.Priority.BACKGROUND.ordinal(), this::storePendingChunk));
 	}
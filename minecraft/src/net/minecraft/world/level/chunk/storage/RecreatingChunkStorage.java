@@ -0,0 +1,36 @@
+package net.minecraft.world.level.chunk.storage;
+
+import com.mojang.datafixers.DataFixer;
+import java.io.IOException;
+import java.nio.file.Path;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.ChunkPos;
+
+public class RecreatingChunkStorage extends ChunkStorage {
+	private final IOWorker writeWorker;
+
+	public RecreatingChunkStorage(Path path, Path path2, DataFixer dataFixer, boolean bl) {
+		super(path, dataFixer, bl);
+		this.writeWorker = new IOWorker(path2, bl, "chunk-recreating");
+	}
+
+	@Override
+	public void write(ChunkPos chunkPos, CompoundTag compoundTag) {
+		this.writeWorker.store(chunkPos, compoundTag);
+	}
+
+	@Override
+	public void flushWorker() {
+		super.flushWorker();
+		this.writeWorker.synchronize(true).join();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			super.close();
+		} finally {
+			this.writeWorker.close();
+		}
+	}
+}
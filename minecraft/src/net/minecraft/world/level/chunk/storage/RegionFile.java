@@ -1,6 +1,8 @@
 package net.minecraft.world.level.chunk.storage;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.mojang.datafixers.util.Pair;
 import com.mojang.logging.LogUtils;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -10,12 +12,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
 import javax.annotation.Nullable;
 import net.minecraft.Util;
 import net.minecraft.world.level.ChunkPos;
@@ -29,10 +34,12 @@ public class RegionFile implements AutoCloseable {
 	private static final int CHUNK_HEADER_SIZE = 5;
 	private static final int HEADER_OFFSET = 0;
 	private static final ByteBuffer PADDING_BUFFER = ByteBuffer.allocateDirect(1);
+	private static final ByteBuffer EMPTY_SECTOR = ByteBuffer.allocateDirect(4096);
 	private static final String EXTERNAL_FILE_EXTENSION = ".mcc";
 	private static final int EXTERNAL_STREAM_FLAG = 128;
 	private static final int EXTERNAL_CHUNK_THRESHOLD = 256;
 	private static final int CHUNK_NOT_PRESENT = 0;
+	private static volatile boolean useMemoryMapping;
 	private final FileChannel file;
 	private final Path externalFileDir;
 	final RegionFileVersion version;
@@ -41,13 +48,19 @@ public class RegionFile implements AutoCloseable {
 	private final IntBuffer timestamps;
 	@VisibleForTesting
 	protected final RegionBitmap usedSectors = new RegionBitmap();
+	private final boolean memoryMapped;
+	private final StampedLock offsetsLock = new StampedLock();
+	private final Object mappingLock = new Object();
+	@Nullable
+	private volatile MappedByteBuffer mappedFile;
 
 	public RegionFile(Path path, Path path2, boolean bl) throws IOException {
-		this(path, path2, RegionFileVersion.VERSION_DEFLATE, bl);
+		this(path, path2, RegionFileVersion.getSelected(), bl);
 	}
 
 	public RegionFile(Path path, Path path2, RegionFileVersion regionFileVersion, boolean bl) throws IOException {
 		this.version = regionFileVersion;
+		this.memoryMapped = useMemoryMapping;
 		if (!Files.isDirectory(path2, new LinkOption[0])) {
 			throw new IllegalArgumentException("Expected directory, got " + path2.toAbsolutePath());
 		} else {
@@ -100,45 +113,130 @@ public class RegionFile implements AutoCloseable {
 		return this.externalFileDir.resolve(string);
 	}
 
+	public static void configureMemoryMapping(boolean bl) {
+		useMemoryMapping = bl;
+	}
+
+	public boolean isMemoryMapped() {
+		return this.memoryMapped;
+	}
+
 	@Nullable
-	public synchronized DataInputStream getChunkDataInputStream(ChunkPos chunkPos) throws IOException {
+	public DataInputStream getChunkDataInputStream(ChunkPos chunkPos) throws IOException {
+		ByteBuffer byteBuffer = this.memoryMapped ? this.readMappedChunkData(chunkPos) : this.readChunkData(chunkPos);
+		if (byteBuffer == null) {
+			return null;
+		} else if (byteBuffer.remaining() < 5) {
+			LOGGER.error("Chunk {} header is truncated: expected {} but read {}", chunkPos, byteBuffer.capacity(), byteBuffer.remaining());
+			return null;
+		} else {
+			int i = byteBuffer.getInt();
+			byte b = byteBuffer.get();
+			if (i == 0) {
+				LOGGER.warn("Chunk {} is allocated, but stream is missing", chunkPos);
+				return null;
+			} else {
+				int j = i - 1;
+				if (isExternalStreamChunk(b)) {
+					if (j != 0) {
+						LOGGER.warn("Chunk has both internal and external streams");
+					}
+
+					return this.createExternalChunkInputStream(chunkPos, getExternalChunkVersion(b));
+				} else if (j > byteBuffer.remaining()) {
+					LOGGER.error("Chunk {} stream is truncated: expected {} but read {}", chunkPos, j, byteBuffer.remaining());
+					return null;
+				} else if (j < 0) {
+					LOGGER.error("Declared size {} of chunk {} is negative", i, chunkPos);
+					return null;
+				} else {
+					return this.createChunkInputStream(chunkPos, b, createStream(byteBuffer, j));
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private synchronized ByteBuffer readChunkData(ChunkPos chunkPos) throws IOException {
 		int i = this.getOffset(chunkPos);
 		if (i == 0) {
 			return null;
 		} else {
 			int j = getSectorNumber(i);
 			int k = getNumSectors(i);
-			int l = k * 4096;
-			ByteBuffer byteBuffer = ByteBuffer.allocate(l);
+			ByteBuffer byteBuffer = ByteBuffer.allocate(k * 4096);
 			this.file.read(byteBuffer, (long)(j * 4096));
 			byteBuffer.flip();
-			if (byteBuffer.remaining() < 5) {
-				LOGGER.error("Chunk {} header is truncated: expected {} but read {}", chunkPos, l, byteBuffer.remaining());
-				return null;
+			return byteBuffer;
+		}
+	}
+
+	@Nullable
+	private ByteBuffer readMappedChunkData(ChunkPos chunkPos) throws IOException {
+		long l = this.offsetsLock.tryOptimisticRead();
+		if (l != 0L) {
+			ByteBuffer byteBuffer = this.copyMappedChunkData(chunkPos);
+			if (this.offsetsLock.validate(l)) {
+				return byteBuffer;
+			}
+		}
+
+		l = this.offsetsLock.readLock();
+
+		ByteBuffer var4;
+		try {
+			var4 = this.copyMappedChunkData(chunkPos);
+		} finally {
+			this.offsetsLock.unlockRead(l);
+		}
+
+		return var4;
+	}
+
+	@Nullable
+	private ByteBuffer copyMappedChunkData(ChunkPos chunkPos) throws IOException {
+		int i = this.getOffset(chunkPos);
+		if (i == 0) {
+			return null;
+		} else {
+			long l = (long)getSectorNumber(i) * 4096L;
+			int j = getNumSectors(i) * 4096;
+			MappedByteBuffer mappedByteBuffer = this.getMappedFile(l + (long)j);
+			if (mappedByteBuffer == null) {
+				return this.readChunkData(chunkPos);
 			} else {
-				int m = byteBuffer.getInt();
-				byte b = byteBuffer.get();
-				if (m == 0) {
-					LOGGER.warn("Chunk {} is allocated, but stream is missing", chunkPos);
-					return null;
-				} else {
-					int n = m - 1;
-					if (isExternalStreamChunk(b)) {
-						if (n != 0) {
-							LOGGER.warn("Chunk has both internal and external streams");
-						}
+				int k = (int)Math.max(0L, Math.min((long)j, (long)mappedByteBuffer.capacity() - l));
+				byte[] bs = new byte[k];
+				if (k > 0) {
+					mappedByteBuffer.get((int)l, bs);
+				}
 
-						return this.createExternalChunkInputStream(chunkPos, getExternalChunkVersion(b));
-					} else if (n > byteBuffer.remaining()) {
-						LOGGER.error("Chunk {} stream is truncated: expected {} but read {}", chunkPos, n, byteBuffer.remaining());
-						return null;
-					} else if (n < 0) {
-						LOGGER.error("Declared size {} of chunk {} is negative", m, chunkPos);
+				return ByteBuffer.wrap(bs);
+			}
+		}
+	}
+
+	@Nullable
+	private MappedByteBuffer getMappedFile(long l) throws IOException {
+		MappedByteBuffer mappedByteBuffer = this.mappedFile;
+		if (mappedByteBuffer != null && (long)mappedByteBuffer.capacity() >= l) {
+			return mappedByteBuffer;
+		} else {
+			synchronized(this.mappingLock) {
+				mappedByteBuffer = this.mappedFile;
+				if (mappedByteBuffer == null || (long)mappedByteBuffer.capacity() < l) {
+					long m = this.file.size();
+					if (m > 2147483647L) {
 						return null;
-					} else {
-						return this.createChunkInputStream(chunkPos, b, createStream(byteBuffer, n));
+					}
+
+					if (mappedByteBuffer == null || (long)mappedByteBuffer.capacity() < m) {
+						mappedByteBuffer = this.file.map(FileChannel.MapMode.READ_ONLY, 0L, m);
+						this.mappedFile = mappedByteBuffer;
 					}
 				}
+
+				return mappedByteBuffer;
 			}
 		}
 	}
@@ -246,7 +344,11 @@ public class RegionFile implements AutoCloseable {
 	}
 
 	public DataOutputStream getChunkDataOutputStream(ChunkPos chunkPos) throws IOException {
-		return new DataOutputStream(this.version.wrap(new RegionFile.ChunkBuffer(chunkPos)));
+		return new DataOutputStream(this.version.wrap(new RegionFile.ChunkBuffer(chunkPos, null)));
+	}
+
+	DataOutputStream getChunkDataOutputStream(ChunkPos chunkPos, RegionFile.WriteBatch writeBatch) throws IOException {
+		return new DataOutputStream(this.version.wrap(new RegionFile.ChunkBuffer(chunkPos, writeBatch)));
 	}
 
 	public void flush() throws IOException {
@@ -257,11 +359,17 @@ public class RegionFile implements AutoCloseable {
 		int i = getOffsetIndex(chunkPos);
 		int j = this.offsets.get(i);
 		if (j != 0) {
-			this.offsets.put(i, 0);
-			this.timestamps.put(i, getTimestamp());
-			this.writeHeader();
-			Files.deleteIfExists(this.getExternalChunkPath(chunkPos));
-			this.usedSectors.free(getSectorNumber(j), getNumSectors(j));
+			long l = this.offsetsLock.writeLock();
+
+			try {
+				this.offsets.put(i, 0);
+				this.timestamps.put(i, getTimestamp());
+				this.writeHeader();
+				Files.deleteIfExists(this.getExternalChunkPath(chunkPos));
+				this.usedSectors.free(getSectorNumber(j), getNumSectors(j));
+			} finally {
+				this.offsetsLock.unlockWrite(l);
+			}
 		}
 	}
 
@@ -288,12 +396,87 @@ public class RegionFile implements AutoCloseable {
 			this.file.write(byteBuffer, (long)(o * 4096));
 		}
 
-		this.offsets.put(i, this.packSectorOffset(o, n));
-		this.timestamps.put(i, getTimestamp());
-		this.writeHeader();
-		commitOp.run();
-		if (k != 0) {
-			this.usedSectors.free(k, l);
+		long p = this.offsetsLock.writeLock();
+
+		try {
+			this.offsets.put(i, this.packSectorOffset(o, n));
+			this.timestamps.put(i, getTimestamp());
+			this.writeHeader();
+			commitOp.run();
+			if (k != 0) {
+				this.usedSectors.free(k, l);
+			}
+		} finally {
+			this.offsetsLock.unlockWrite(p);
+		}
+	}
+
+	protected synchronized void write(RegionFile.WriteBatch writeBatch) throws IOException {
+		List<Pair<ChunkPos, ByteBuffer>> list = Lists.<Pair<ChunkPos, ByteBuffer>>newArrayList();
+		int i = 0;
+
+		for(Pair<ChunkPos, ByteBuffer> pair : writeBatch.chunks) {
+			int j = sizeToSectors(pair.getSecond().remaining());
+			if (j >= 256) {
+				this.write(pair.getFirst(), pair.getSecond());
+			} else {
+				list.add(pair);
+				i += j;
+			}
+		}
+
+		if (!list.isEmpty()) {
+			int k = this.usedSectors.allocate(i);
+			ByteBuffer[] byteBuffers = new ByteBuffer[list.size() * 2 - 1];
+			int[] is = new int[list.size()];
+			int l = k;
+			long m = 0L;
+
+			for(int n = 0; n < list.size(); ++n) {
+				ByteBuffer byteBuffer = list.get(n).getSecond();
+				int o = byteBuffer.remaining();
+				int p = sizeToSectors(o);
+				is[n] = this.packSectorOffset(l, p);
+				l += p;
+				byteBuffers[n * 2] = byteBuffer;
+				m += (long)o;
+				if (n < list.size() - 1) {
+					int q = p * 4096 - o;
+					byteBuffers[n * 2 + 1] = EMPTY_SECTOR.slice(0, q);
+					m += (long)q;
+				}
+			}
+
+			this.file.position((long)k * 4096L);
+
+			while(m > 0L) {
+				m -= this.file.write(byteBuffers);
+			}
+
+			long r = this.offsetsLock.writeLock();
+
+			try {
+				int s = getTimestamp();
+				int[] js = new int[list.size()];
+
+				for(int t = 0; t < list.size(); ++t) {
+					int u = getOffsetIndex(list.get(t).getFirst());
+					js[t] = this.offsets.get(u);
+					this.offsets.put(u, is[t]);
+					this.timestamps.put(u, s);
+				}
+
+				this.writeHeader();
+
+				for(int t = 0; t < list.size(); ++t) {
+					Files.deleteIfExists(this.getExternalChunkPath(list.get(t).getFirst()));
+					if (js[t] != 0) {
+						this.usedSectors.free(getSectorNumber(js[t]), getNumSectors(js[t]));
+					}
+				}
+			} finally {
+				this.offsetsLock.unlockWrite(r);
+			}
 		}
 	}
 
@@ -372,8 +555,10 @@ public class RegionFile implements AutoCloseable {
 
 	class ChunkBuffer extends ByteArrayOutputStream {
 		private final ChunkPos pos;
+		@Nullable
+		private final RegionFile.WriteBatch batch;
 
-		public ChunkBuffer(ChunkPos chunkPos) {
+		public ChunkBuffer(ChunkPos chunkPos, @Nullable RegionFile.WriteBatch writeBatch) {
 			super(8096);
 			super.write(0);
 			super.write(0);
@@ -381,15 +566,24 @@ public class RegionFile implements AutoCloseable {
 			super.write(0);
 			super.write(RegionFile.this.version.getId());
 			this.pos = chunkPos;
+			this.batch = writeBatch;
 		}
 
 		public void close() throws IOException {
 			ByteBuffer byteBuffer = ByteBuffer.wrap(this.buf, 0, this.count);
 			byteBuffer.putInt(0, this.count - 5 + 1);
-			RegionFile.this.write(this.pos, byteBuffer);
+			if (this.batch != null) {
+				this.batch.chunks.add(Pair.of(this.pos, byteBuffer));
+			} else {
+				RegionFile.this.write(this.pos, byteBuffer);
+			}
 		}
 	}
 
+	static class WriteBatch {
+		final List<Pair<ChunkPos, ByteBuffer>> chunks = Lists.<Pair<ChunkPos, ByteBuffer>>newArrayList();
+	}
+
 	interface CommitOp {
 		void run() throws IOException;
 	}
@@ -1,10 +1,12 @@
 package net.minecraft.world.level.chunk.storage;
 
+import com.mojang.datafixers.util.Pair;
 import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import javax.annotation.Nullable;
 import net.minecraft.FileUtil;
 import net.minecraft.nbt.CompoundTag;
@@ -20,13 +22,19 @@ public final class RegionFileStorage implements AutoCloseable {
 	private final Long2ObjectLinkedOpenHashMap<RegionFile> regionCache = new Long2ObjectLinkedOpenHashMap<>();
 	private final Path folder;
 	private final boolean sync;
+	private final boolean batched;
 
 	RegionFileStorage(Path path, boolean bl) {
+		this(path, bl, false);
+	}
+
+	RegionFileStorage(Path path, boolean bl, boolean bl2) {
 		this.folder = path;
 		this.sync = bl;
+		this.batched = bl2;
 	}
 
-	private RegionFile getRegionFile(ChunkPos chunkPos) throws IOException {
+	RegionFile getRegionFile(ChunkPos chunkPos) throws IOException {
 		long l = ChunkPos.asLong(chunkPos.getRegionX(), chunkPos.getRegionZ());
 		RegionFile regionFile = this.regionCache.getAndMoveToFirst(l);
 		if (regionFile != null) {
@@ -38,7 +46,7 @@ public final class RegionFileStorage implements AutoCloseable {
 
 			FileUtil.createDirectoriesSafe(this.folder);
 			Path path = this.folder.resolve("r." + chunkPos.getRegionX() + "." + chunkPos.getRegionZ() + ".mca");
-			RegionFile regionFile2 = new RegionFile(path, this.folder, this.sync);
+			RegionFile regionFile2 = new RegionFile(path, this.folder, this.sync && !this.batched);
 			this.regionCache.putAndMoveToFirst(l, regionFile2);
 			return regionFile2;
 		}
@@ -46,7 +54,11 @@ public final class RegionFileStorage implements AutoCloseable {
 
 	@Nullable
 	public CompoundTag read(ChunkPos chunkPos) throws IOException {
-		RegionFile regionFile = this.getRegionFile(chunkPos);
+		return read(this.getRegionFile(chunkPos), chunkPos);
+	}
+
+	@Nullable
+	static CompoundTag read(RegionFile regionFile, ChunkPos chunkPos) throws IOException {
 		DataInputStream dataInputStream = regionFile.getChunkDataInputStream(chunkPos);
 
 		CompoundTag var8;
@@ -134,6 +146,47 @@ public final class RegionFileStorage implements AutoCloseable {
 				dataOutputStream.close();
 			}
 		}
+
+		if (this.sync && this.batched) {
+			regionFile.flush();
+		}
+	}
+
+	protected void write(List<Pair<ChunkPos, CompoundTag>> list) throws IOException {
+		RegionFile regionFile = this.getRegionFile((ChunkPos)((Pair)list.get(0)).getFirst());
+		RegionFile.WriteBatch writeBatch = new RegionFile.WriteBatch();
+
+		for(Pair<ChunkPos, CompoundTag> pair : list) {
+			CompoundTag compoundTag = pair.getSecond();
+			if (compoundTag == null) {
+				regionFile.clear(pair.getFirst());
+			} else {
+				DataOutputStream dataOutputStream = regionFile.getChunkDataOutputStream(pair.getFirst(), writeBatch);
+
+				try {
+					NbtIo.write(compoundTag, dataOutputStream);
+				} catch (Throwable var10) {
+					if (dataOutputStream != null) {
+						try {
+							dataOutputStream.close();
+						} catch (Throwable var9) {
+							var10.addSuppressed(var9);
+						}
+					}
+
+					throw var10;
+				}
+
+				if (dataOutputStream != null) {
+					dataOutputStream.close();
+				}
+			}
+		}
+
+		regionFile.write(writeBatch);
+		if (this.sync) {
+			regionFile.flush();
+		}
 	}
 
 	public void close() throws IOException {
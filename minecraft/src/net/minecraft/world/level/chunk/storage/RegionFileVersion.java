@@ -1,23 +1,39 @@
 package net.minecraft.world.level.chunk.storage;
 
+import com.mojang.logging.LogUtils;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import javax.annotation.Nullable;
 import net.minecraft.util.FastBufferedInputStream;
+import net.minecraft.util.Lz4;
+import org.slf4j.Logger;
 
 public class RegionFileVersion {
+	private static final Logger LOGGER = LogUtils.getLogger();
+	public static final int MAX_DICTIONARY_SIZE = 32768;
 	private static final Int2ObjectMap<RegionFileVersion> VERSIONS = new Int2ObjectOpenHashMap<>();
+	private static final Object2ObjectLinkedOpenHashMap<String, RegionFileVersion> VERSIONS_BY_NAME = new Object2ObjectLinkedOpenHashMap<>();
 	public static final RegionFileVersion VERSION_GZIP = register(
 		new RegionFileVersion(
 			1,
+			null,
 			inputStream -> new FastBufferedInputStream(new GZIPInputStream(inputStream)),
 			outputStream -> new BufferedOutputStream(new GZIPOutputStream(outputStream))
 		)
@@ -25,23 +41,45 @@ public class RegionFileVersion {
 	public static final RegionFileVersion VERSION_DEFLATE = register(
 		new RegionFileVersion(
 			2,
+			"deflate",
 			inputStream -> new FastBufferedInputStream(new InflaterInputStream(inputStream)),
 			outputStream -> new BufferedOutputStream(new DeflaterOutputStream(outputStream))
 		)
 	);
-	public static final RegionFileVersion VERSION_NONE = register(new RegionFileVersion(3, inputStream -> inputStream, outputStream -> outputStream));
+	public static final RegionFileVersion VERSION_NONE = register(new RegionFileVersion(3, "none", inputStream -> inputStream, outputStream -> outputStream));
+	public static final RegionFileVersion VERSION_LZ4 = register(
+		new RegionFileVersion(
+			125, "lz4", inputStream -> new FastBufferedInputStream(new Lz4.BlockInputStream(inputStream)), outputStream -> new Lz4.BlockOutputStream(outputStream)
+		)
+	);
+	public static final RegionFileVersion VERSION_DEFLATE_DICTIONARY = register(
+		new RegionFileVersion(126, "deflate-dictionary", RegionFileVersion::createDictionaryInputStream, RegionFileVersion::createDictionaryOutputStream)
+	);
+	public static final RegionFileVersion DEFAULT = VERSION_DEFLATE;
+	private static volatile RegionFileVersion selected = DEFAULT;
+	@Nullable
+	private static volatile RegionFileVersion.Dictionary dictionary;
 	private final int id;
+	@Nullable
+	private final String optionName;
 	private final RegionFileVersion.StreamWrapper<InputStream> inputWrapper;
 	private final RegionFileVersion.StreamWrapper<OutputStream> outputWrapper;
 
-	private RegionFileVersion(int i, RegionFileVersion.StreamWrapper<InputStream> streamWrapper, RegionFileVersion.StreamWrapper<OutputStream> streamWrapper2) {
+	private RegionFileVersion(
+		int i, @Nullable String string, RegionFileVersion.StreamWrapper<InputStream> streamWrapper, RegionFileVersion.StreamWrapper<OutputStream> streamWrapper2
+	) {
 		this.id = i;
+		this.optionName = string;
 		this.inputWrapper = streamWrapper;
 		this.outputWrapper = streamWrapper2;
 	}
 
 	private static RegionFileVersion register(RegionFileVersion regionFileVersion) {
 		VERSIONS.put(regionFileVersion.id, regionFileVersion);
+		if (regionFileVersion.optionName != null) {
+			VERSIONS_BY_NAME.put(regionFileVersion.optionName, regionFileVersion);
+		}
+
 		return regionFileVersion;
 	}
 
@@ -50,6 +88,93 @@ public class RegionFileVersion {
 		return VERSIONS.get(i);
 	}
 
+	public static void configure(String string, String string2) {
+		if (!string2.isEmpty()) {
+			try {
+				loadDictionary(Path.of(string2));
+			} catch (IOException var3) {
+				LOGGER.error("Failed to load region file compression dictionary from `{}`", string2, var3);
+			}
+		}
+
+		RegionFileVersion regionFileVersion = VERSIONS_BY_NAME.get(string);
+		if (regionFileVersion == null) {
+			LOGGER.error(
+				"Invalid `region-file-compression` value `{}` in server.properties. Please use one of: {}", string, String.join(", ", VERSIONS_BY_NAME.keySet())
+			);
+		} else if (regionFileVersion == VERSION_DEFLATE_DICTIONARY && dictionary == null) {
+			LOGGER.error("Region file compression `{}` requires `region-file-compression-dictionary` to be set, falling back to `{}`", string, DEFAULT.optionName);
+		} else {
+			selected = regionFileVersion;
+		}
+	}
+
+	public static RegionFileVersion getSelected() {
+		return selected;
+	}
+
+	public static void loadDictionary(Path path) throws IOException {
+		byte[] bs = Files.readAllBytes(path);
+		if (bs.length == 0) {
+			throw new IOException("Dictionary " + path + " is empty");
+		} else {
+			if (bs.length > 32768) {
+				LOGGER.warn("Dictionary {} is larger than {} bytes, only the tail will be used", path, 32768);
+				bs = Arrays.copyOfRange(bs, bs.length - 32768, bs.length);
+			}
+
+			dictionary = new RegionFileVersion.Dictionary(bs);
+			LOGGER.info("Loaded {} byte region file compression dictionary {}", bs.length, Integer.toHexString(dictionary.checksum()));
+		}
+	}
+
+	private static RegionFileVersion.Dictionary getDictionaryOrThrow() throws IOException {
+		RegionFileVersion.Dictionary dictionary = RegionFileVersion.dictionary;
+		if (dictionary == null) {
+			throw new IOException("No region file compression dictionary loaded");
+		} else {
+			return dictionary;
+		}
+	}
+
+	private static InputStream createDictionaryInputStream(InputStream inputStream) throws IOException {
+		RegionFileVersion.Dictionary dictionary = getDictionaryOrThrow();
+		int i = new DataInputStream(inputStream).readInt();
+		if (i != dictionary.checksum()) {
+			throw new IOException(
+				"Chunk was compressed with dictionary " + Integer.toHexString(i) + " but the loaded dictionary is " + Integer.toHexString(dictionary.checksum())
+			);
+		} else {
+			Inflater inflater = new Inflater(true);
+			inflater.setDictionary(dictionary.bytes());
+			return new FastBufferedInputStream(new InflaterInputStream(inputStream, inflater) {
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						this.inf.end();
+					}
+				}
+			});
+		}
+	}
+
+	private static OutputStream createDictionaryOutputStream(OutputStream outputStream) throws IOException {
+		RegionFileVersion.Dictionary dictionary = getDictionaryOrThrow();
+		new DataOutputStream(outputStream).writeInt(dictionary.checksum());
+		Deflater deflater = new Deflater(9, true);
+		deflater.setDictionary(dictionary.bytes());
+		return new BufferedOutputStream(new DeflaterOutputStream(outputStream, deflater) {
+			public void close() throws IOException {
+				try {
+					super.close();
+				} finally {
+					this.def.end();
+				}
+			}
+		});
+	}
+
 	public static boolean isValidVersion(int i) {
 		return VERSIONS.containsKey(i);
 	}
@@ -66,6 +191,18 @@ public class RegionFileVersion {
 		return (InputStream)this.inputWrapper.wrap(inputStream);
 	}
 
+	static record Dictionary(byte[] bytes, int checksum) {
+		Dictionary(byte[] bs) {
+			this(bs, computeChecksum(bs));
+		}
+
+		private static int computeChecksum(byte[] bs) {
+			Adler32 adler32 = new Adler32();
+			adler32.update(bs);
+			return (int)adler32.getValue();
+		}
+	}
+
 	@FunctionalInterface
 	interface StreamWrapper<O> {
 		O wrap(O object) throws IOException;
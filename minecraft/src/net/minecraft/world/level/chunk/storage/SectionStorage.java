@@ -10,8 +10,12 @@ import com.mojang.serialization.Dynamic;
 import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.OptionalDynamic;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
@@ -40,6 +44,8 @@ public class SectionStorage<R> implements AutoCloseable {
 	private final IOWorker worker;
 	private final Long2ObjectMap<Optional<R>> storage = new Long2ObjectOpenHashMap();
 	private final LongLinkedOpenHashSet dirty = new LongLinkedOpenHashSet();
+	private final Long2ObjectMap<CompletableFuture<Optional<CompoundTag>>> pendingLoads = new Long2ObjectOpenHashMap<>();
+	private final LongSet completedPendingLoads = new LongOpenHashSet();
 	private final Function<Runnable, Codec<R>> codec;
 	private final Function<Runnable, R> factory;
 	private final DataFixer fixerUpper;
@@ -67,12 +73,28 @@ public class SectionStorage<R> implements AutoCloseable {
 	}
 
 	protected void tick(BooleanSupplier booleanSupplier) {
+		this.expireCompletedLoads();
+
 		while(this.hasWork() && booleanSupplier.getAsBoolean()) {
 			ChunkPos chunkPos = SectionPos.of(this.dirty.firstLong()).chunk();
 			this.writeColumn(chunkPos);
 		}
 	}
 
+	private void expireCompletedLoads() {
+		if (!this.pendingLoads.isEmpty()) {
+			ObjectIterator<Long2ObjectMap.Entry<CompletableFuture<Optional<CompoundTag>>>> objectIterator = Long2ObjectMaps.fastIterator(this.pendingLoads);
+
+			while(objectIterator.hasNext()) {
+				Long2ObjectMap.Entry<CompletableFuture<Optional<CompoundTag>>> entry = (Long2ObjectMap.Entry)objectIterator.next();
+				if (((CompletableFuture)entry.getValue()).isDone() && !this.completedPendingLoads.add(entry.getLongKey())) {
+					this.completedPendingLoads.remove(entry.getLongKey());
+					objectIterator.remove();
+				}
+			}
+		}
+	}
+
 	public boolean hasWork() {
 		return !this.dirty.isEmpty();
 	}
@@ -101,6 +123,33 @@ public class SectionStorage<R> implements AutoCloseable {
 		}
 	}
 
+	@Nullable
+	protected Optional<R> tryGetOrLoad(long l) {
+		if (this.outsideStoredRange(l)) {
+			return Optional.empty();
+		} else {
+			Optional<R> optional = this.get(l);
+			if (optional != null) {
+				return optional;
+			} else {
+				return !this.prefetch(SectionPos.of(l).chunk()).isDone() ? null : this.getOrLoad(l);
+			}
+		}
+	}
+
+	public CompletableFuture<?> prefetch(ChunkPos chunkPos) {
+		if (this.storage.containsKey(getKey(chunkPos, this.levelHeightAccessor.getMinSection()))) {
+			return CompletableFuture.completedFuture(null);
+		} else {
+			return this.pendingLoads.computeIfAbsent(chunkPos.toLong(), l -> this.tryRead(chunkPos));
+		}
+	}
+
+	public void cancelPrefetch(ChunkPos chunkPos) {
+		this.pendingLoads.remove(chunkPos.toLong());
+		this.completedPendingLoads.remove(chunkPos.toLong());
+	}
+
 	protected boolean outsideStoredRange(long l) {
 		int i = SectionPos.sectionToBlockCoord(SectionPos.y(l));
 		return this.levelHeightAccessor.isOutsideBuildHeight(i);
@@ -122,7 +171,13 @@ public class SectionStorage<R> implements AutoCloseable {
 	}
 
 	private void readColumn(ChunkPos chunkPos) {
-		Optional<CompoundTag> optional = (Optional)this.tryRead(chunkPos).join();
+		CompletableFuture<Optional<CompoundTag>> completableFuture = this.pendingLoads.remove(chunkPos.toLong());
+		this.completedPendingLoads.remove(chunkPos.toLong());
+		if (completableFuture == null) {
+			completableFuture = this.tryRead(chunkPos);
+		}
+
+		Optional<CompoundTag> optional = (Optional)completableFuture.join();
 		RegistryOps<Tag> registryOps = RegistryOps.create(NbtOps.INSTANCE, this.registryAccess);
 		this.readColumn(chunkPos, registryOps, (Tag)optional.orElse(null));
 	}
@@ -1,7 +1,12 @@
 package net.minecraft.world.level.entity;
 
+import com.google.common.collect.Lists;
 import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.stream.Stream;
 import net.minecraft.util.AbortableIterationConsumer;
 import net.minecraft.util.ClassInstanceMultiMap;
@@ -12,6 +17,7 @@ import org.slf4j.Logger;
 public class EntitySection<T extends EntityAccess> {
 	private static final Logger LOGGER = LogUtils.getLogger();
 	private final ClassInstanceMultiMap<T> storage;
+	private final Map<EntityTypeTest<T, ?>, List<T>> byTypeTest = new Reference2ObjectOpenHashMap<>();
 	private Visibility chunkStatus;
 
 	public EntitySection(Class<T> class_, Visibility visibility) {
@@ -21,9 +27,24 @@ public class EntitySection<T extends EntityAccess> {
 
 	public void add(T entityAccess) {
 		this.storage.add(entityAccess);
+		if (!this.byTypeTest.isEmpty()) {
+			for(Entry<EntityTypeTest<T, ?>, List<T>> entry : this.byTypeTest.entrySet()) {
+				if (((EntityTypeTest)entry.getKey()).tryCast(entityAccess) != null) {
+					((List)entry.getValue()).add(entityAccess);
+				}
+			}
+		}
 	}
 
 	public boolean remove(T entityAccess) {
+		if (!this.byTypeTest.isEmpty()) {
+			for(Entry<EntityTypeTest<T, ?>, List<T>> entry : this.byTypeTest.entrySet()) {
+				if (((EntityTypeTest)entry.getKey()).tryCast(entityAccess) != null) {
+					((List)entry.getValue()).remove(entityAccess);
+				}
+			}
+		}
+
 		return this.storage.remove(entityAccess);
 	}
 
@@ -40,7 +61,7 @@ public class EntitySection<T extends EntityAccess> {
 	public <U extends T> AbortableIterationConsumer.Continuation getEntities(
 		EntityTypeTest<T, U> entityTypeTest, AABB aABB, AbortableIterationConsumer<? super U> abortableIterationConsumer
 	) {
-		Collection<? extends T> collection = this.storage.find(entityTypeTest.getBaseClass());
+		Collection<? extends T> collection = entityTypeTest.isIndexable() ? this.findIndexed(entityTypeTest) : this.storage.find(entityTypeTest.getBaseClass());
 		if (collection.isEmpty()) {
 			return AbortableIterationConsumer.Continuation.CONTINUE;
 		} else {
@@ -55,6 +76,23 @@ public class EntitySection<T extends EntityAccess> {
 		}
 	}
 
+	private Collection<T> findIndexed(EntityTypeTest<T, ?> entityTypeTest) {
+		List<T> list = (List)this.byTypeTest.get(entityTypeTest);
+		if (list == null) {
+			list = Lists.<T>newArrayList();
+
+			for(T entityAccess : this.storage.find(entityTypeTest.getBaseClass())) {
+				if (entityTypeTest.tryCast(entityAccess) != null) {
+					list.add(entityAccess);
+				}
+			}
+
+			this.byTypeTest.put(entityTypeTest, list);
+		}
+
+		return list;
+	}
+
 	public boolean isEmpty() {
 		return this.storage.isEmpty();
 	}
@@ -37,4 +37,8 @@ public interface EntityTypeTest<B, T extends B> {
 	T tryCast(B object);
 
 	Class<? extends B> getBaseClass();
+
+	default boolean isIndexable() {
+		return false;
+	}
 }
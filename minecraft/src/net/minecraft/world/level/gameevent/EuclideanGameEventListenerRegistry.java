@@ -6,9 +6,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
-import net.minecraft.core.Position;
+import net.minecraft.util.Mth;
 import net.minecraft.network.protocol.game.DebugPackets;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.phys.Vec3;
@@ -19,15 +18,21 @@ public class EuclideanGameEventListenerRegistry implements GameEventListenerRegi
 	private final List<GameEventListener> listenersToAdd = Lists.<GameEventListener>newArrayList();
 	private boolean processing;
 	private final ServerLevel level;
+	private final long sectionPos;
 	private final int sectionY;
 	private final EuclideanGameEventListenerRegistry.OnEmptyAction onEmptyAction;
 
-	public EuclideanGameEventListenerRegistry(ServerLevel serverLevel, int i, EuclideanGameEventListenerRegistry.OnEmptyAction onEmptyAction) {
+	public EuclideanGameEventListenerRegistry(ServerLevel serverLevel, long l, int i, EuclideanGameEventListenerRegistry.OnEmptyAction onEmptyAction) {
 		this.level = serverLevel;
+		this.sectionPos = l;
 		this.sectionY = i;
 		this.onEmptyAction = onEmptyAction;
 	}
 
+	private void updateListenerCount() {
+		this.level.getGameEventDispatcher().setListenerCount(this.sectionPos, this.listeners.size());
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return this.listeners.isEmpty();
@@ -39,6 +44,7 @@ public class EuclideanGameEventListenerRegistry implements GameEventListenerRegi
 			this.listenersToAdd.add(gameEventListener);
 		} else {
 			this.listeners.add(gameEventListener);
+			this.updateListenerCount();
 		}
 
 		DebugPackets.sendGameEventListenerInfo(this.level, gameEventListener);
@@ -48,8 +54,8 @@ public class EuclideanGameEventListenerRegistry implements GameEventListenerRegi
 	public void unregister(GameEventListener gameEventListener) {
 		if (this.processing) {
 			this.listenersToRemove.add(gameEventListener);
-		} else {
-			this.listeners.remove(gameEventListener);
+		} else if (this.listeners.remove(gameEventListener)) {
+			this.updateListenerCount();
 		}
 
 		if (this.listeners.isEmpty()) {
@@ -93,6 +99,7 @@ public class EuclideanGameEventListenerRegistry implements GameEventListenerRegi
 			this.listenersToRemove.clear();
 		}
 
+		this.updateListenerCount();
 		return bl;
 	}
 
@@ -101,9 +108,12 @@ public class EuclideanGameEventListenerRegistry implements GameEventListenerRegi
 		if (optional.isEmpty()) {
 			return Optional.empty();
 		} else {
-			double d = BlockPos.containing((Position)optional.get()).distSqr(BlockPos.containing(vec3));
-			int i = gameEventListener.getListenerRadius() * gameEventListener.getListenerRadius();
-			return d > (double)i ? Optional.empty() : optional;
+			Vec3 vec32 = (Vec3)optional.get();
+			long l = (long)(Mth.floor(vec32.x) - Mth.floor(vec3.x));
+			long m = (long)(Mth.floor(vec32.y) - Mth.floor(vec3.y));
+			long n = (long)(Mth.floor(vec32.z) - Mth.floor(vec3.z));
+			long o = (long)gameEventListener.getListenerRadius() * (long)gameEventListener.getListenerRadius();
+			return l * l + m * m + n * n > o ? Optional.empty() : optional;
 		}
 	}
 
@@ -1,5 +1,7 @@
 package net.minecraft.world.level.gameevent;
 
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -8,17 +10,58 @@ import net.minecraft.core.Holder;
 import net.minecraft.core.SectionPos;
 import net.minecraft.network.protocol.game.DebugPackets;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.phys.Vec3;
 
 public class GameEventDispatcher {
 	private final ServerLevel level;
+	private final Long2IntOpenHashMap listenerSections = new Long2IntOpenHashMap();
+	private final LongOpenHashSet listenerChunks = new LongOpenHashSet();
 
 	public GameEventDispatcher(ServerLevel serverLevel) {
 		this.level = serverLevel;
 	}
 
+	public void setListenerCount(long l, int i) {
+		if (i > 0) {
+			if (this.listenerSections.put(l, i) == 0) {
+				this.listenerChunks.add(ChunkPos.asLong(SectionPos.x(l), SectionPos.z(l)));
+			}
+		} else if (this.listenerSections.remove(l) != 0) {
+			this.updateListenerChunk(SectionPos.x(l), SectionPos.z(l));
+		}
+	}
+
+	public void removeListenerSections(ChunkAccess chunkAccess) {
+		ChunkPos chunkPos = chunkAccess.getPos();
+		if (this.listenerChunks.contains(chunkPos.toLong())) {
+			for(int i = chunkAccess.getMinSection(); i < chunkAccess.getMaxSection(); ++i) {
+				this.listenerSections.remove(SectionPos.asLong(chunkPos.x, i, chunkPos.z));
+			}
+
+			this.listenerChunks.remove(chunkPos.toLong());
+		}
+	}
+
+	private void updateListenerChunk(int i, int j) {
+		int k = this.level.getMinSection();
+		int l = this.level.getMaxSection();
+
+		for(int m = k; m < l; ++m) {
+			if (this.listenerSections.containsKey(SectionPos.asLong(i, m, j))) {
+				return;
+			}
+		}
+
+		this.listenerChunks.remove(ChunkPos.asLong(i, j));
+	}
+
 	public void post(Holder<GameEvent> holder, Vec3 vec3, GameEvent.Context context) {
+		if (this.listenerSections.isEmpty()) {
+			return;
+		}
+
 		int i = ((GameEvent)holder.value()).notificationRadius();
 		BlockPos blockPos = BlockPos.containing(vec3);
 		int j = SectionPos.blockToSectionCoord(blockPos.getX() - i);
@@ -39,10 +82,14 @@ public class GameEventDispatcher {
 
 		for(int p = j; p <= m; ++p) {
 			for(int q = l; q <= o; ++q) {
-				ChunkAccess chunkAccess = this.level.getChunkSource().getChunkNow(p, q);
-				if (chunkAccess != null) {
-					for(int r = k; r <= n; ++r) {
-						bl |= chunkAccess.getListenerRegistry(r).visitInRangeListeners(holder, vec3, context, listenerVisitor);
+				if (this.listenerChunks.contains(ChunkPos.asLong(p, q))) {
+					ChunkAccess chunkAccess = this.level.getChunkSource().getChunkNow(p, q);
+					if (chunkAccess != null) {
+						for(int r = k; r <= n; ++r) {
+							if (this.listenerSections.containsKey(SectionPos.asLong(p, r, q))) {
+								bl |= chunkAccess.getExistingListenerRegistry(r).visitInRangeListeners(holder, vec3, context, listenerVisitor);
+							}
+						}
 					}
 				}
 			}
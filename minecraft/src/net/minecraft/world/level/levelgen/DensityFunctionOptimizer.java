@@ -0,0 +1,229 @@
+package net.minecraft.world.level.levelgen;
+
+import com.google.common.collect.Maps;
+import com.mojang.logging.LogUtils;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.util.Mth;
+import org.slf4j.Logger;
+
+public final class DensityFunctionOptimizer implements DensityFunction.Visitor {
+	private static final Logger LOGGER = LogUtils.getLogger();
+	private static final int VERIFY_SAMPLES = 256;
+	private static final List<String> ROUTER_FIELDS = List.of(
+		"barrier",
+		"fluid_level_floodedness",
+		"fluid_level_spread",
+		"lava",
+		"temperature",
+		"vegetation",
+		"continents",
+		"erosion",
+		"depth",
+		"ridges",
+		"initial_density_without_jaggedness",
+		"final_density",
+		"vein_toggle",
+		"vein_ridged",
+		"vein_gap"
+	);
+	private static volatile boolean enabled;
+	private static volatile boolean verify;
+	private final Map<DensityFunction, DensityFunction> folded = Maps.newHashMap();
+
+	private DensityFunctionOptimizer() {
+	}
+
+	public static void configure(boolean bl, boolean bl2) {
+		enabled = bl;
+		verify = bl2;
+	}
+
+	public static NoiseRouter optimize(NoiseRouter noiseRouter) {
+		if (!enabled) {
+			return noiseRouter;
+		} else {
+			DensityFunctionOptimizer densityFunctionOptimizer = new DensityFunctionOptimizer();
+			NoiseRouter noiseRouter2 = new NoiseRouter(
+				densityFunctionOptimizer.fold(noiseRouter.barrierNoise()),
+				densityFunctionOptimizer.fold(noiseRouter.fluidLevelFloodednessNoise()),
+				densityFunctionOptimizer.fold(noiseRouter.fluidLevelSpreadNoise()),
+				densityFunctionOptimizer.fold(noiseRouter.lavaNoise()),
+				densityFunctionOptimizer.fold(noiseRouter.temperature()),
+				densityFunctionOptimizer.fold(noiseRouter.vegetation()),
+				densityFunctionOptimizer.fold(noiseRouter.continents()),
+				densityFunctionOptimizer.fold(noiseRouter.erosion()),
+				densityFunctionOptimizer.fold(noiseRouter.depth()),
+				densityFunctionOptimizer.fold(noiseRouter.ridges()),
+				densityFunctionOptimizer.fold(noiseRouter.initialDensityWithoutJaggedness()),
+				densityFunctionOptimizer.fold(noiseRouter.finalDensity()),
+				densityFunctionOptimizer.fold(noiseRouter.veinToggle()),
+				densityFunctionOptimizer.fold(noiseRouter.veinRidged()),
+				densityFunctionOptimizer.fold(noiseRouter.veinGap())
+			);
+			return verify && !verify(noiseRouter, noiseRouter2) ? noiseRouter : noiseRouter2;
+		}
+	}
+
+	private static boolean verify(NoiseRouter noiseRouter, NoiseRouter noiseRouter2) {
+		List<DensityFunction> list = routerFunctions(noiseRouter);
+		List<DensityFunction> list2 = routerFunctions(noiseRouter2);
+
+		for(int i = 0; i < 256; ++i) {
+			DensityFunction.SinglePointContext singlePointContext = new DensityFunction.SinglePointContext(
+				Math.floorMod(i * 7919, 16384) - 8192, Math.floorMod(i * 61, 448) - 64, Math.floorMod(i * 104729, 16384) - 8192
+			);
+
+			for(int j = 0; j < list.size(); ++j) {
+				double d = ((DensityFunction)list.get(j)).compute(singlePointContext);
+				double e = ((DensityFunction)list2.get(j)).compute(singlePointContext);
+				if (Double.doubleToLongBits(d) != Double.doubleToLongBits(e)) {
+					LOGGER.error(
+						"Optimized density function `{}` returned {} instead of {} at {}, falling back to the unoptimized noise router",
+						ROUTER_FIELDS.get(j),
+						e,
+						d,
+						singlePointContext
+					);
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private static List<DensityFunction> routerFunctions(NoiseRouter noiseRouter) {
+		return List.of(
+			noiseRouter.barrierNoise(),
+			noiseRouter.fluidLevelFloodednessNoise(),
+			noiseRouter.fluidLevelSpreadNoise(),
+			noiseRouter.lavaNoise(),
+			noiseRouter.temperature(),
+			noiseRouter.vegetation(),
+			noiseRouter.continents(),
+			noiseRouter.erosion(),
+			noiseRouter.depth(),
+			noiseRouter.ridges(),
+			noiseRouter.initialDensityWithoutJaggedness(),
+			noiseRouter.finalDensity(),
+			noiseRouter.veinToggle(),
+			noiseRouter.veinRidged(),
+			noiseRouter.veinGap()
+		);
+	}
+
+	@Override
+	public DensityFunction apply(DensityFunction densityFunction) {
+		return isFoldable(densityFunction) ? this.fold(densityFunction) : densityFunction;
+	}
+
+	private static boolean isFoldable(DensityFunction densityFunction) {
+		return densityFunction instanceof DensityFunctions.MulOrAdd
+			|| densityFunction instanceof DensityFunctions.Mapped
+			|| densityFunction instanceof DensityFunctions.Clamp
+			|| densityFunction instanceof DensityFunctions.Ap2
+			|| densityFunction instanceof DensityFunctions.RangeChoice
+			|| densityFunction instanceof DensityFunctions.Marker
+			|| densityFunction instanceof DensityFunctions.HolderHolder;
+	}
+
+	private DensityFunction fold(DensityFunction densityFunction) {
+		DensityFunction densityFunction2 = (DensityFunction)this.folded.get(densityFunction);
+		if (densityFunction2 == null) {
+			densityFunction2 = isFoldable(densityFunction) ? this.foldNode(densityFunction) : densityFunction.mapAll(this);
+			this.folded.put(densityFunction, densityFunction2);
+		}
+
+		return densityFunction2;
+	}
+
+	private DensityFunction foldNode(DensityFunction densityFunction) {
+		if (densityFunction instanceof DensityFunctions.HolderHolder holderHolder) {
+			return this.fold(holderHolder.function().value());
+		} else if (densityFunction instanceof DensityFunctions.Marker marker) {
+			DensityFunction densityFunction2 = this.fold(marker.wrapped());
+			return densityFunction2 == marker.wrapped() ? marker : new DensityFunctions.Marker(marker.type(), densityFunction2);
+		} else if (densityFunction instanceof DensityFunctions.MulOrAdd mulOrAdd) {
+			DensityFunction densityFunction2 = this.fold(mulOrAdd.input());
+			if (densityFunction2 instanceof DensityFunctions.Constant constant) {
+				return DensityFunctions.constant(mulOrAdd.transform(constant.value()));
+			} else if (mulOrAdd.specificType() == DensityFunctions.MulOrAdd.Type.MUL && mulOrAdd.argument() == 1.0) {
+				return densityFunction2;
+			} else {
+				return densityFunction2 == mulOrAdd.input()
+					? mulOrAdd
+					: new DensityFunctions.MulOrAdd(mulOrAdd.specificType(), densityFunction2, mulOrAdd.minValue(), mulOrAdd.maxValue(), mulOrAdd.argument());
+			}
+		} else if (densityFunction instanceof DensityFunctions.Mapped mapped) {
+			DensityFunction densityFunction2 = this.fold(mapped.input());
+			if (densityFunction2 instanceof DensityFunctions.Constant constant) {
+				return DensityFunctions.constant(mapped.transform(constant.value()));
+			} else {
+				return densityFunction2 == mapped.input() ? mapped : DensityFunctions.Mapped.create(mapped.type(), densityFunction2);
+			}
+		} else if (densityFunction instanceof DensityFunctions.Clamp clamp) {
+			DensityFunction densityFunction2 = this.fold(clamp.input());
+			if (densityFunction2 instanceof DensityFunctions.Constant constant) {
+				return DensityFunctions.constant(Mth.clamp(constant.value(), clamp.minValue(), clamp.maxValue()));
+			} else {
+				return densityFunction2 == clamp.input() ? clamp : new DensityFunctions.Clamp(densityFunction2, clamp.minValue(), clamp.maxValue());
+			}
+		} else if (densityFunction instanceof DensityFunctions.RangeChoice rangeChoice) {
+			DensityFunction densityFunction2 = this.fold(rangeChoice.input());
+			if (densityFunction2 instanceof DensityFunctions.Constant constant) {
+				double d = constant.value();
+				return this.fold(d >= rangeChoice.minInclusive() && d < rangeChoice.maxExclusive() ? rangeChoice.whenInRange() : rangeChoice.whenOutOfRange());
+			} else {
+				DensityFunction densityFunction3 = this.fold(rangeChoice.whenInRange());
+				DensityFunction densityFunction4 = this.fold(rangeChoice.whenOutOfRange());
+				return densityFunction2 == rangeChoice.input() && densityFunction3 == rangeChoice.whenInRange() && densityFunction4 == rangeChoice.whenOutOfRange()
+					? rangeChoice
+					: new DensityFunctions.RangeChoice(densityFunction2, rangeChoice.minInclusive(), rangeChoice.maxExclusive(), densityFunction3, densityFunction4);
+			}
+		} else if (densityFunction instanceof DensityFunctions.Ap2 ap2) {
+			return this.foldAp2(ap2);
+		} else {
+			return densityFunction;
+		}
+	}
+
+	private DensityFunction foldAp2(DensityFunctions.Ap2 ap2) {
+		DensityFunction densityFunction = this.fold(ap2.argument1());
+		DensityFunction densityFunction2 = this.fold(ap2.argument2());
+		switch(ap2.type()) {
+			case ADD:
+				if (densityFunction instanceof DensityFunctions.Constant || densityFunction2 instanceof DensityFunctions.Constant) {
+					return this.fold(DensityFunctions.TwoArgumentSimpleFunction.create(ap2.type(), densityFunction, densityFunction2));
+				}
+				break;
+			case MUL:
+				if (densityFunction instanceof DensityFunctions.Constant constant) {
+					return constant.value() == 0.0
+						? DensityFunctions.zero()
+						: this.fold(DensityFunctions.TwoArgumentSimpleFunction.create(ap2.type(), densityFunction, densityFunction2));
+				}
+				break;
+			case MAX:
+				if (densityFunction.minValue() > densityFunction2.maxValue()) {
+					return densityFunction;
+				}
+				break;
+			case MIN:
+				if (densityFunction.maxValue() < densityFunction2.minValue()) {
+					return densityFunction;
+				}
+		}
+
+		if (densityFunction instanceof DensityFunctions.Constant && densityFunction2 instanceof DensityFunctions.Constant) {
+			return DensityFunctions.constant(
+				new DensityFunctions.Ap2(ap2.type(), densityFunction, densityFunction2, ap2.minValue(), ap2.maxValue())
+					.compute(new DensityFunction.SinglePointContext(0, 0, 0))
+			);
+		} else {
+			return densityFunction == ap2.argument1() && densityFunction2 == ap2.argument2()
+				? ap2
+				: new DensityFunctions.Ap2(ap2.type(), densityFunction, densityFunction2, ap2.minValue(), ap2.maxValue());
+		}
+	}
+}
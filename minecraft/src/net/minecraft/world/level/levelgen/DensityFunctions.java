@@ -454,6 +454,17 @@ public final class DensityFunctions {
 			return Mth.clamp(d, this.minValue, this.maxValue);
 		}
 
+		@Override
+		public void fillArray(double[] ds, DensityFunction.ContextProvider contextProvider) {
+			this.input.fillArray(ds, contextProvider);
+			double d = this.minValue;
+			double e = this.maxValue;
+
+			for(int i = 0; i < ds.length; ++i) {
+				ds[i] = Mth.clamp(ds[i], d, e);
+			}
+		}
+
 		@Override
 		public DensityFunction mapAll(DensityFunction.Visitor visitor) {
 			return new DensityFunctions.Clamp(this.input.mapAll(visitor), this.minValue, this.maxValue);
@@ -742,6 +753,21 @@ public final class DensityFunctions {
 			};
 		}
 
+		@Override
+		public void fillArray(double[] ds, DensityFunction.ContextProvider contextProvider) {
+			this.input.fillArray(ds, contextProvider);
+			double d = this.argument;
+			if (this.specificType == DensityFunctions.MulOrAdd.Type.MUL) {
+				for(int i = 0; i < ds.length; ++i) {
+					ds[i] *= d;
+				}
+			} else {
+				for(int i = 0; i < ds.length; ++i) {
+					ds[i] += d;
+				}
+			}
+		}
+
 		@Override
 		public DensityFunction mapAll(DensityFunction.Visitor visitor) {
 			DensityFunction densityFunction = this.input.mapAll(visitor);
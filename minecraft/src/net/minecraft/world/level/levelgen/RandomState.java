@@ -92,7 +92,7 @@ public final class RandomState {
 			}
 		}
 
-		this.router = noiseGeneratorSettings.noiseRouter().mapAll(new NoiseWiringHelper());
+		this.router = DensityFunctionOptimizer.optimize(noiseGeneratorSettings.noiseRouter().mapAll(new NoiseWiringHelper()));
 		DensityFunction.Visitor visitor = new DensityFunction.Visitor() {
 			private final Map<DensityFunction, DensityFunction> wrapped = new HashMap();
 
@@ -6,6 +6,9 @@ import net.minecraft.util.RandomSource;
 
 public final class ImprovedNoise {
 	private static final float SHIFT_UP_EPSILON = 1.0E-7F;
+	private static final double[] GRADIENT_X = new double[16];
+	private static final double[] GRADIENT_Y = new double[16];
+	private static final double[] GRADIENT_Z = new double[16];
 	private final byte[] p;
 	public final double xo;
 	public final double yo;
@@ -75,7 +78,8 @@ public final class ImprovedNoise {
 	}
 
 	private static double gradDot(int i, double d, double e, double f) {
-		return SimplexNoise.dot(SimplexNoise.GRADIENT[i & 15], d, e, f);
+		int j = i & 15;
+		return GRADIENT_X[j] * d + GRADIENT_Y[j] * e + GRADIENT_Z[j] * f;
 	}
 
 	private int p(int i) {
@@ -159,4 +163,13 @@ public final class ImprovedNoise {
 	public void parityConfigString(StringBuilder stringBuilder) {
 		NoiseUtils.parityNoiseOctaveConfigString(stringBuilder, this.xo, this.yo, this.zo, this.p);
 	}
+
+	static {
+		for(int i = 0; i < 16; ++i) {
+			int[] is = SimplexNoise.GRADIENT[i];
+			GRADIENT_X[i] = (double)is[0];
+			GRADIENT_Y[i] = (double)is[1];
+			GRADIENT_Z[i] = (double)is[2];
+		}
+	}
 }
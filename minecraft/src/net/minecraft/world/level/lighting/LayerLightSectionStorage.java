@@ -254,6 +254,15 @@ public abstract class LayerLightSectionStorage<M extends DataLayerStorageMap<M>>
 
 	protected void swapSectionMap() {
 		if (!this.changedSections.isEmpty()) {
+			LongIterator longIterator = this.changedSections.iterator();
+
+			while(longIterator.hasNext()) {
+				DataLayer dataLayer = this.updatingSectionData.getLayer(longIterator.nextLong());
+				if (dataLayer != null && !dataLayer.isShared()) {
+					dataLayer.compact();
+				}
+			}
+
 			M dataLayerStorageMap = this.updatingSectionData.copy();
 			dataLayerStorageMap.disableCache();
 			this.visibleSectionData = dataLayerStorageMap;
@@ -1,5 +1,10 @@
 package net.minecraft.world.level.lighting;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
@@ -16,6 +21,13 @@ public class LevelLightEngine implements LightEventListener {
 	private final LightEngine<?, ?> blockEngine;
 	@Nullable
 	private final LightEngine<?, ?> skyEngine;
+	private static final AtomicInteger PROPAGATION_THREAD_ID = new AtomicInteger(1);
+	private static final ExecutorService PROPAGATION_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "Light-Worker-" + PROPAGATION_THREAD_ID.getAndIncrement());
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static volatile boolean parallelPropagation;
 
 	public LevelLightEngine(LightChunkGetter lightChunkGetter, boolean bl, boolean bl2) {
 		this.levelHeightAccessor = lightChunkGetter.getLevel();
@@ -23,6 +35,10 @@ public class LevelLightEngine implements LightEventListener {
 		this.skyEngine = bl2 ? new SkyLightEngine(lightChunkGetter) : null;
 	}
 
+	public static void configureParallelPropagation(boolean bl) {
+		parallelPropagation = bl;
+	}
+
 	@Override
 	public void checkBlock(BlockPos blockPos) {
 		if (this.blockEngine != null) {
@@ -45,6 +61,24 @@ public class LevelLightEngine implements LightEventListener {
 
 	@Override
 	public int runLightUpdates() {
+		if (parallelPropagation && this.blockEngine != null && this.skyEngine != null && this.blockEngine.hasLightWork() && this.skyEngine.hasLightWork()) {
+			AtomicBoolean atomicBoolean = new AtomicBoolean();
+			CompletableFuture<Integer> completableFuture = new CompletableFuture();
+			Runnable runnable = () -> {
+				if (atomicBoolean.compareAndSet(false, true)) {
+					try {
+						completableFuture.complete(this.blockEngine.runLightUpdates());
+					} catch (Throwable var4) {
+						completableFuture.completeExceptionally(var4);
+					}
+				}
+			};
+			PROPAGATION_EXECUTOR.execute(runnable);
+			int i = this.skyEngine.runLightUpdates();
+			runnable.run();
+			return i + completableFuture.join();
+		}
+
 		int i = 0;
 		if (this.blockEngine != null) {
 			i += this.blockEngine.runLightUpdates();
@@ -10,8 +10,6 @@ import net.minecraft.world.level.PathNavigationRegion;
 
 public class AmphibiousNodeEvaluator extends WalkNodeEvaluator {
 	private final boolean prefersShallowSwimming;
-	private float oldWalkableCost;
-	private float oldWaterBorderCost;
 
 	public AmphibiousNodeEvaluator(boolean bl) {
 		this.prefersShallowSwimming = bl;
@@ -20,26 +18,23 @@ public class AmphibiousNodeEvaluator extends WalkNodeEvaluator {
 	@Override
 	public void prepare(PathNavigationRegion pathNavigationRegion, Mob mob) {
 		super.prepare(pathNavigationRegion, mob);
-		mob.setPathfindingMalus(BlockPathTypes.WATER, 0.0F);
-		this.oldWalkableCost = mob.getPathfindingMalus(BlockPathTypes.WALKABLE);
-		mob.setPathfindingMalus(BlockPathTypes.WALKABLE, 6.0F);
-		this.oldWaterBorderCost = mob.getPathfindingMalus(BlockPathTypes.WATER_BORDER);
-		mob.setPathfindingMalus(BlockPathTypes.WATER_BORDER, 4.0F);
-	}
+		if (!pathNavigationRegion.isAsync()) {
+			mob.setPathfindingMalus(BlockPathTypes.WATER, 0.0F);
+		}
 
-	@Override
-	public void done() {
-		this.mob.setPathfindingMalus(BlockPathTypes.WALKABLE, this.oldWalkableCost);
-		this.mob.setPathfindingMalus(BlockPathTypes.WATER_BORDER, this.oldWaterBorderCost);
-		super.done();
+		this.mobState.setPathfindingMalus(BlockPathTypes.WATER, 0.0F);
+		this.mobState.setPathfindingMalus(BlockPathTypes.WALKABLE, 6.0F);
+		this.mobState.setPathfindingMalus(BlockPathTypes.WATER_BORDER, 4.0F);
 	}
 
 	@Override
 	public Node getStart() {
-		return !this.mob.isInWater()
+		return !this.mobState.isInWater()
 			? super.getStart()
 			: this.getStartNode(
-				new BlockPos(Mth.floor(this.mob.getBoundingBox().minX), Mth.floor(this.mob.getBoundingBox().minY + 0.5), Mth.floor(this.mob.getBoundingBox().minZ))
+				new BlockPos(
+					Mth.floor(this.mobState.getBoundingBox().minX), Mth.floor(this.mobState.getBoundingBox().minY + 0.5), Mth.floor(this.mobState.getBoundingBox().minZ)
+				)
 			);
 	}
 
@@ -54,8 +49,8 @@ public class AmphibiousNodeEvaluator extends WalkNodeEvaluator {
 		BlockPathTypes blockPathTypes = this.getCachedBlockType(this.mob, node.x, node.y + 1, node.z);
 		BlockPathTypes blockPathTypes2 = this.getCachedBlockType(this.mob, node.x, node.y, node.z);
 		int j;
-		if (this.mob.getPathfindingMalus(blockPathTypes) >= 0.0F && blockPathTypes2 != BlockPathTypes.STICKY_HONEY) {
-			j = Mth.floor(Math.max(1.0F, this.mob.maxUpStep()));
+		if (this.mobState.getPathfindingMalus(blockPathTypes) >= 0.0F && blockPathTypes2 != BlockPathTypes.STICKY_HONEY) {
+			j = Mth.floor(Math.max(1.0F, this.mobState.maxUpStep()));
 		} else {
 			j = 0;
 		}
@@ -73,7 +68,7 @@ public class AmphibiousNodeEvaluator extends WalkNodeEvaluator {
 
 		for(int k = 0; k < i; ++k) {
 			Node node4 = nodes[k];
-			if (node4.type == BlockPathTypes.WATER && this.prefersShallowSwimming && node4.y < this.mob.level().getSeaLevel() - 10) {
+			if (node4.type == BlockPathTypes.WATER && this.prefersShallowSwimming && node4.y < this.mobState.getSeaLevel() - 10) {
 				++node4.costMalus;
 			}
 		}
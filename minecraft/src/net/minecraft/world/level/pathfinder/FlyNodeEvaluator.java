@@ -24,12 +24,17 @@ public class FlyNodeEvaluator extends WalkNodeEvaluator {
 	public void prepare(PathNavigationRegion pathNavigationRegion, Mob mob) {
 		super.prepare(pathNavigationRegion, mob);
 		this.pathTypeByPosCache.clear();
-		mob.onPathfindingStart();
+		if (!pathNavigationRegion.isAsync()) {
+			mob.onPathfindingStart();
+		}
 	}
 
 	@Override
 	public void done() {
-		this.mob.onPathfindingDone();
+		if (!this.level.isAsync()) {
+			this.mob.onPathfindingDone();
+		}
+
 		this.pathTypeByPosCache.clear();
 		super.done();
 	}
@@ -37,20 +42,20 @@ public class FlyNodeEvaluator extends WalkNodeEvaluator {
 	@Override
 	public Node getStart() {
 		int i;
-		if (this.canFloat() && this.mob.isInWater()) {
-			i = this.mob.getBlockY();
-			BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos(this.mob.getX(), (double)i, this.mob.getZ());
+		if (this.canFloat() && this.mobState.isInWater()) {
+			i = this.mobState.getBlockY();
+			BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos(this.mobState.getX(), (double)i, this.mobState.getZ());
 
 			for(BlockState blockState = this.level.getBlockState(mutableBlockPos); blockState.is(Blocks.WATER); blockState = this.level.getBlockState(mutableBlockPos)) {
-				mutableBlockPos.set(this.mob.getX(), (double)(++i), this.mob.getZ());
+				mutableBlockPos.set(this.mobState.getX(), (double)(++i), this.mobState.getZ());
 			}
 		} else {
-			i = Mth.floor(this.mob.getY() + 0.5);
+			i = Mth.floor(this.mobState.getY() + 0.5);
 		}
 
-		BlockPos blockPos = BlockPos.containing(this.mob.getX(), (double)i, this.mob.getZ());
+		BlockPos blockPos = BlockPos.containing(this.mobState.getX(), (double)i, this.mobState.getZ());
 		if (!this.canStartAt(blockPos)) {
-			for(BlockPos blockPos2 : this.iteratePathfindingStartNodeCandidatePositions(this.mob)) {
+			for(BlockPos blockPos2 : this.iteratePathfindingStartNodeCandidatePositions(this.mobState)) {
 				if (this.canStartAt(blockPos2)) {
 					return super.getStartNode(blockPos2);
 				}
@@ -63,7 +68,7 @@ public class FlyNodeEvaluator extends WalkNodeEvaluator {
 	@Override
 	protected boolean canStartAt(BlockPos blockPos) {
 		BlockPathTypes blockPathTypes = this.getBlockPathType(this.mob, blockPos);
-		return this.mob.getPathfindingMalus(blockPathTypes) >= 0.0F;
+		return this.mobState.getPathfindingMalus(blockPathTypes) >= 0.0F;
 	}
 
 	@Override
@@ -267,7 +272,7 @@ public class FlyNodeEvaluator extends WalkNodeEvaluator {
 	protected Node findAcceptedNode(int i, int j, int k) {
 		Node node = null;
 		BlockPathTypes blockPathTypes = this.getCachedBlockPathType(i, j, k);
-		float f = this.mob.getPathfindingMalus(blockPathTypes);
+		float f = this.mobState.getPathfindingMalus(blockPathTypes);
 		if (f >= 0.0F) {
 			node = this.getNode(i, j, k);
 			node.type = blockPathTypes;
@@ -289,7 +294,7 @@ public class FlyNodeEvaluator extends WalkNodeEvaluator {
 	public BlockPathTypes getBlockPathType(BlockGetter blockGetter, int i, int j, int k, Mob mob) {
 		EnumSet<BlockPathTypes> enumSet = EnumSet.noneOf(BlockPathTypes.class);
 		BlockPathTypes blockPathTypes = BlockPathTypes.BLOCKED;
-		BlockPos blockPos = mob.blockPosition();
+		BlockPos blockPos = this.getMobPosition(mob);
 		blockPathTypes = super.getBlockPathTypes(blockGetter, i, j, k, enumSet, blockPathTypes, blockPos);
 		if (enumSet.contains(BlockPathTypes.FENCE)) {
 			return BlockPathTypes.FENCE;
@@ -297,16 +302,16 @@ public class FlyNodeEvaluator extends WalkNodeEvaluator {
 			BlockPathTypes blockPathTypes2 = BlockPathTypes.BLOCKED;
 
 			for(BlockPathTypes blockPathTypes3 : enumSet) {
-				if (mob.getPathfindingMalus(blockPathTypes3) < 0.0F) {
+				if (this.getPathfindingMalus(mob, blockPathTypes3) < 0.0F) {
 					return blockPathTypes3;
 				}
 
-				if (mob.getPathfindingMalus(blockPathTypes3) >= mob.getPathfindingMalus(blockPathTypes2)) {
+				if (this.getPathfindingMalus(mob, blockPathTypes3) >= this.getPathfindingMalus(mob, blockPathTypes2)) {
 					blockPathTypes2 = blockPathTypes3;
 				}
 			}
 
-			return blockPathTypes == BlockPathTypes.OPEN && mob.getPathfindingMalus(blockPathTypes2) == 0.0F ? BlockPathTypes.OPEN : blockPathTypes2;
+			return blockPathTypes == BlockPathTypes.OPEN && this.getPathfindingMalus(mob, blockPathTypes2) == 0.0F ? BlockPathTypes.OPEN : blockPathTypes2;
 		}
 	}
 
@@ -323,7 +328,7 @@ public class FlyNodeEvaluator extends WalkNodeEvaluator {
 			} else if (blockPathTypes2 == BlockPathTypes.COCOA) {
 				blockPathTypes = BlockPathTypes.COCOA;
 			} else if (blockPathTypes2 == BlockPathTypes.FENCE) {
-				if (!mutableBlockPos.equals(this.mob.blockPosition())) {
+				if (!mutableBlockPos.equals(this.mobState.blockPosition())) {
 					blockPathTypes = BlockPathTypes.FENCE;
 				}
 			} else {
@@ -340,16 +345,16 @@ public class FlyNodeEvaluator extends WalkNodeEvaluator {
 		return blockPathTypes;
 	}
 
-	private Iterable<BlockPos> iteratePathfindingStartNodeCandidatePositions(Mob mob) {
+	private Iterable<BlockPos> iteratePathfindingStartNodeCandidatePositions(PathfindingMobState pathfindingMobState) {
 		float f = 1.0F;
-		AABB aABB = mob.getBoundingBox();
+		AABB aABB = pathfindingMobState.getBoundingBox();
 		boolean bl = aABB.getSize() < 1.0;
 		if (!bl) {
 			return List.of(
-				BlockPos.containing(aABB.minX, (double)mob.getBlockY(), aABB.minZ),
-				BlockPos.containing(aABB.minX, (double)mob.getBlockY(), aABB.maxZ),
-				BlockPos.containing(aABB.maxX, (double)mob.getBlockY(), aABB.minZ),
-				BlockPos.containing(aABB.maxX, (double)mob.getBlockY(), aABB.maxZ)
+				BlockPos.containing(aABB.minX, (double)pathfindingMobState.getBlockY(), aABB.minZ),
+				BlockPos.containing(aABB.minX, (double)pathfindingMobState.getBlockY(), aABB.maxZ),
+				BlockPos.containing(aABB.maxX, (double)pathfindingMobState.getBlockY(), aABB.minZ),
+				BlockPos.containing(aABB.maxX, (double)pathfindingMobState.getBlockY(), aABB.maxZ)
 			);
 		} else {
 			double d = Math.max(0.0, (1.5 - aABB.getZsize()) / 2.0);
@@ -357,7 +362,7 @@ public class FlyNodeEvaluator extends WalkNodeEvaluator {
 			double g = Math.max(0.0, (1.5 - aABB.getYsize()) / 2.0);
 			AABB aABB2 = aABB.inflate(e, g, d);
 			return BlockPos.randomBetweenClosed(
-				mob.getRandom(),
+				pathfindingMobState.getRandom(),
 				10,
 				Mth.floor(aABB2.minX),
 				Mth.floor(aABB2.minY),
@@ -12,6 +12,7 @@ import net.minecraft.world.level.PathNavigationRegion;
 public abstract class NodeEvaluator {
 	protected PathNavigationRegion level;
 	protected Mob mob;
+	protected PathfindingMobState mobState;
 	protected final Int2ObjectMap<Node> nodes = new Int2ObjectOpenHashMap<>();
 	protected int entityWidth;
 	protected int entityHeight;
@@ -24,15 +25,26 @@ public abstract class NodeEvaluator {
 	public void prepare(PathNavigationRegion pathNavigationRegion, Mob mob) {
 		this.level = pathNavigationRegion;
 		this.mob = mob;
+		PathfindingMobState pathfindingMobState = pathNavigationRegion.getMobState();
+		this.mobState = pathfindingMobState != null && pathfindingMobState.is(mob) ? pathfindingMobState : new PathfindingMobState(mob, false);
 		this.nodes.clear();
-		this.entityWidth = Mth.floor(mob.getBbWidth() + 1.0F);
-		this.entityHeight = Mth.floor(mob.getBbHeight() + 1.0F);
-		this.entityDepth = Mth.floor(mob.getBbWidth() + 1.0F);
+		this.entityWidth = Mth.floor(this.mobState.getBbWidth() + 1.0F);
+		this.entityHeight = Mth.floor(this.mobState.getBbHeight() + 1.0F);
+		this.entityDepth = Mth.floor(this.mobState.getBbWidth() + 1.0F);
 	}
 
 	public void done() {
 		this.level = null;
 		this.mob = null;
+		this.mobState = null;
+	}
+
+	protected float getPathfindingMalus(Mob mob, BlockPathTypes blockPathTypes) {
+		return this.mobState != null && this.mobState.is(mob) ? this.mobState.getPathfindingMalus(blockPathTypes) : mob.getPathfindingMalus(blockPathTypes);
+	}
+
+	protected BlockPos getMobPosition(Mob mob) {
+		return this.mobState != null && this.mobState.is(mob) ? this.mobState.blockPosition() : mob.blockPosition();
 	}
 
 	protected Node getNode(BlockPos blockPos) {
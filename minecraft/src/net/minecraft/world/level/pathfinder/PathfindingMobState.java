@@ -0,0 +1,153 @@
+package net.minecraft.world.level.pathfinder;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.BlockCollisions;
+import net.minecraft.world.level.CollisionGetter;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.BooleanOp;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+public final class PathfindingMobState {
+	private static final BlockPathTypes[] PATH_TYPES = BlockPathTypes.values();
+	private final Mob mob;
+	private final double x;
+	private final double y;
+	private final double z;
+	private final BlockPos blockPosition;
+	private final AABB boundingBox;
+	private final float bbWidth;
+	private final float bbHeight;
+	private final boolean onGround;
+	private final boolean inWater;
+	private final float maxUpStep;
+	private final int maxFallDistance;
+	private final int minBuildHeight;
+	private final int seaLevel;
+	private final float[] pathfindingMalus = new float[PATH_TYPES.length];
+	private final RandomSource random;
+	private final CollisionContext collisionContext;
+
+	public PathfindingMobState(Mob mob, boolean bl) {
+		this.mob = mob;
+		this.x = mob.getX();
+		this.y = mob.getY();
+		this.z = mob.getZ();
+		this.blockPosition = mob.blockPosition();
+		this.boundingBox = mob.getBoundingBox();
+		this.bbWidth = mob.getBbWidth();
+		this.bbHeight = mob.getBbHeight();
+		this.onGround = mob.onGround();
+		this.inWater = mob.isInWater();
+		this.maxUpStep = mob.maxUpStep();
+		this.maxFallDistance = mob.getMaxFallDistance();
+		this.minBuildHeight = mob.level().getMinBuildHeight();
+		this.seaLevel = mob.level().getSeaLevel();
+
+		for(BlockPathTypes blockPathTypes : PATH_TYPES) {
+			this.pathfindingMalus[blockPathTypes.ordinal()] = mob.getPathfindingMalus(blockPathTypes);
+		}
+
+		this.random = bl ? RandomSource.create(mob.getRandom().nextLong()) : mob.getRandom();
+		this.collisionContext = CollisionContext.of(mob);
+	}
+
+	public boolean is(Mob mob) {
+		return this.mob == mob;
+	}
+
+	public double getX() {
+		return this.x;
+	}
+
+	public double getY() {
+		return this.y;
+	}
+
+	public double getZ() {
+		return this.z;
+	}
+
+	public int getBlockY() {
+		return this.blockPosition.getY();
+	}
+
+	public BlockPos blockPosition() {
+		return this.blockPosition;
+	}
+
+	public AABB getBoundingBox() {
+		return this.boundingBox;
+	}
+
+	public float getBbWidth() {
+		return this.bbWidth;
+	}
+
+	public float getBbHeight() {
+		return this.bbHeight;
+	}
+
+	public boolean onGround() {
+		return this.onGround;
+	}
+
+	public boolean isInWater() {
+		return this.inWater;
+	}
+
+	public float maxUpStep() {
+		return this.maxUpStep;
+	}
+
+	public int getMaxFallDistance() {
+		return this.maxFallDistance;
+	}
+
+	public int getMinBuildHeight() {
+		return this.minBuildHeight;
+	}
+
+	public int getSeaLevel() {
+		return this.seaLevel;
+	}
+
+	public float getPathfindingMalus(BlockPathTypes blockPathTypes) {
+		return this.pathfindingMalus[blockPathTypes.ordinal()];
+	}
+
+	public void setPathfindingMalus(BlockPathTypes blockPathTypes, float f) {
+		this.pathfindingMalus[blockPathTypes.ordinal()] = f;
+	}
+
+	public boolean canStandOnFluid(FluidState fluidState) {
+		return this.mob.canStandOnFluid(fluidState);
+	}
+
+	public RandomSource getRandom() {
+		return this.random;
+	}
+
+	public boolean noCollision(CollisionGetter collisionGetter, AABB aABB) {
+		BlockCollisions<VoxelShape> blockCollisions = new BlockCollisions<>(
+			collisionGetter, this.collisionContext, aABB, false, (mutableBlockPos, voxelShape) -> voxelShape
+		);
+
+		while(blockCollisions.hasNext()) {
+			if (!((VoxelShape)blockCollisions.next()).isEmpty()) {
+				return false;
+			}
+		}
+
+		WorldBorder worldBorder = collisionGetter.getWorldBorder();
+		double d = Math.max(Mth.absMax(aABB.getXsize(), aABB.getZsize()), 1.0);
+		return !(worldBorder.getDistanceToBorder(this.x, this.z) < d * 2.0 && worldBorder.isWithinBounds(this.x, this.z, d))
+			|| !Shapes.joinIsNotEmpty(worldBorder.getCollisionShape(), Shapes.create(aABB), BooleanOp.AND);
+	}
+}
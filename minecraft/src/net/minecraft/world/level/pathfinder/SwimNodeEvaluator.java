@@ -38,7 +38,7 @@ public class SwimNodeEvaluator extends NodeEvaluator {
 
 	@Override
 	public Node getStart() {
-		return this.getNode(Mth.floor(this.mob.getBoundingBox().minX), Mth.floor(this.mob.getBoundingBox().minY + 0.5), Mth.floor(this.mob.getBoundingBox().minZ));
+		return this.getNode(Mth.floor(this.mobState.getBoundingBox().minX), Mth.floor(this.mobState.getBoundingBox().minY + 0.5), Mth.floor(this.mobState.getBoundingBox().minZ));
 	}
 
 	@Override
@@ -83,7 +83,7 @@ public class SwimNodeEvaluator extends NodeEvaluator {
 		Node node = null;
 		BlockPathTypes blockPathTypes = this.getCachedBlockType(i, j, k);
 		if (this.allowBreaching && blockPathTypes == BlockPathTypes.BREACH || blockPathTypes == BlockPathTypes.WATER) {
-			float f = this.mob.getPathfindingMalus(blockPathTypes);
+			float f = this.mobState.getPathfindingMalus(blockPathTypes);
 			if (f >= 0.0F) {
 				node = this.getNode(i, j, k);
 				node.type = blockPathTypes;
@@ -10,11 +10,13 @@ import java.util.EnumSet;
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.CollisionGetter;
 import net.minecraft.world.level.PathNavigationRegion;
 import net.minecraft.world.level.block.BaseRailBlock;
 import net.minecraft.world.level.block.Block;
@@ -24,6 +26,8 @@ import net.minecraft.world.level.block.DoorBlock;
 import net.minecraft.world.level.block.FenceGateBlock;
 import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.EmptyLevelChunk;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.phys.AABB;
@@ -33,18 +37,29 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 public class WalkNodeEvaluator extends NodeEvaluator {
 	public static final double SPACE_BETWEEN_WALL_POSTS = 0.5;
 	private static final double DEFAULT_MOB_JUMP_HEIGHT = 1.125;
+	private static final BlockPathTypes[] PATH_TYPES = BlockPathTypes.values();
+	private static volatile boolean cachePathTypes;
 	private final Long2ObjectMap<BlockPathTypes> pathTypesByPosCache = new Long2ObjectOpenHashMap();
 	private final Object2BooleanMap<AABB> collisionCache = new Object2BooleanOpenHashMap<>();
 
+	public static void configurePathTypeCache(boolean bl) {
+		cachePathTypes = bl;
+	}
+
 	@Override
 	public void prepare(PathNavigationRegion pathNavigationRegion, Mob mob) {
 		super.prepare(pathNavigationRegion, mob);
-		mob.onPathfindingStart();
+		if (!pathNavigationRegion.isAsync()) {
+			mob.onPathfindingStart();
+		}
 	}
 
 	@Override
 	public void done() {
-		this.mob.onPathfindingDone();
+		if (!this.level.isAsync()) {
+			this.mob.onPathfindingDone();
+		}
+
 		this.pathTypesByPosCache.clear();
 		this.collisionCache.clear();
 		super.done();
@@ -53,26 +68,26 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 	@Override
 	public Node getStart() {
 		BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
-		int i = this.mob.getBlockY();
-		BlockState blockState = this.level.getBlockState(mutableBlockPos.set(this.mob.getX(), (double)i, this.mob.getZ()));
-		if (!this.mob.canStandOnFluid(blockState.getFluidState())) {
-			if (this.canFloat() && this.mob.isInWater()) {
+		int i = this.mobState.getBlockY();
+		BlockState blockState = this.level.getBlockState(mutableBlockPos.set(this.mobState.getX(), (double)i, this.mobState.getZ()));
+		if (!this.mobState.canStandOnFluid(blockState.getFluidState())) {
+			if (this.canFloat() && this.mobState.isInWater()) {
 				while(true) {
 					if (!blockState.is(Blocks.WATER) && blockState.getFluidState() != Fluids.WATER.getSource(false)) {
 						--i;
 						break;
 					}
 
-					blockState = this.level.getBlockState(mutableBlockPos.set(this.mob.getX(), (double)(++i), this.mob.getZ()));
+					blockState = this.level.getBlockState(mutableBlockPos.set(this.mobState.getX(), (double)(++i), this.mobState.getZ()));
 				}
-			} else if (this.mob.onGround()) {
-				i = Mth.floor(this.mob.getY() + 0.5);
+			} else if (this.mobState.onGround()) {
+				i = Mth.floor(this.mobState.getY() + 0.5);
 			} else {
-				BlockPos blockPos = this.mob.blockPosition();
+				BlockPos blockPos = this.mobState.blockPosition();
 
 				while(
 					(this.level.getBlockState(blockPos).isAir() || this.level.getBlockState(blockPos).isPathfindable(this.level, blockPos, PathComputationType.LAND))
-						&& blockPos.getY() > this.mob.level().getMinBuildHeight()
+						&& blockPos.getY() > this.mobState.getMinBuildHeight()
 				) {
 					blockPos = blockPos.below();
 				}
@@ -80,16 +95,16 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 				i = blockPos.above().getY();
 			}
 		} else {
-			while(this.mob.canStandOnFluid(blockState.getFluidState())) {
-				blockState = this.level.getBlockState(mutableBlockPos.set(this.mob.getX(), (double)(++i), this.mob.getZ()));
+			while(this.mobState.canStandOnFluid(blockState.getFluidState())) {
+				blockState = this.level.getBlockState(mutableBlockPos.set(this.mobState.getX(), (double)(++i), this.mobState.getZ()));
 			}
 
 			--i;
 		}
 
-		BlockPos blockPos = this.mob.blockPosition();
+		BlockPos blockPos = this.mobState.blockPosition();
 		if (!this.canStartAt(mutableBlockPos.set(blockPos.getX(), i, blockPos.getZ()))) {
-			AABB aABB = this.mob.getBoundingBox();
+			AABB aABB = this.mobState.getBoundingBox();
 			if (this.canStartAt(mutableBlockPos.set(aABB.minX, (double)i, aABB.minZ))
 				|| this.canStartAt(mutableBlockPos.set(aABB.minX, (double)i, aABB.maxZ))
 				|| this.canStartAt(mutableBlockPos.set(aABB.maxX, (double)i, aABB.minZ))
@@ -104,13 +119,13 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 	protected Node getStartNode(BlockPos blockPos) {
 		Node node = this.getNode(blockPos);
 		node.type = this.getBlockPathType(this.mob, node.asBlockPos());
-		node.costMalus = this.mob.getPathfindingMalus(node.type);
+		node.costMalus = this.mobState.getPathfindingMalus(node.type);
 		return node;
 	}
 
 	protected boolean canStartAt(BlockPos blockPos) {
 		BlockPathTypes blockPathTypes = this.getBlockPathType(this.mob, blockPos);
-		return blockPathTypes != BlockPathTypes.OPEN && this.mob.getPathfindingMalus(blockPathTypes) >= 0.0F;
+		return blockPathTypes != BlockPathTypes.OPEN && this.mobState.getPathfindingMalus(blockPathTypes) >= 0.0F;
 	}
 
 	@Override
@@ -124,8 +139,8 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 		int j = 0;
 		BlockPathTypes blockPathTypes = this.getCachedBlockType(this.mob, node.x, node.y + 1, node.z);
 		BlockPathTypes blockPathTypes2 = this.getCachedBlockType(this.mob, node.x, node.y, node.z);
-		if (this.mob.getPathfindingMalus(blockPathTypes) >= 0.0F && blockPathTypes2 != BlockPathTypes.STICKY_HONEY) {
-			j = Mth.floor(Math.max(1.0F, this.mob.maxUpStep()));
+		if (this.mobState.getPathfindingMalus(blockPathTypes) >= 0.0F && blockPathTypes2 != BlockPathTypes.STICKY_HONEY) {
+			j = Mth.floor(Math.max(1.0F, this.mobState.maxUpStep()));
 		}
 
 		double d = this.getFloorLevel(new BlockPos(node.x, node.y, node.z));
@@ -184,7 +199,7 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 		} else if (node3.y > node.y || node2.y > node.y) {
 			return false;
 		} else if (node2.type != BlockPathTypes.WALKABLE_DOOR && node3.type != BlockPathTypes.WALKABLE_DOOR && node4.type != BlockPathTypes.WALKABLE_DOOR) {
-			boolean bl = node3.type == BlockPathTypes.FENCE && node2.type == BlockPathTypes.FENCE && (double)this.mob.getBbWidth() < 0.5;
+			boolean bl = node3.type == BlockPathTypes.FENCE && node2.type == BlockPathTypes.FENCE && (double)this.mobState.getBbWidth() < 0.5;
 			return node4.costMalus >= 0.0F && (node3.y < node.y || node3.costMalus >= 0.0F || bl) && (node2.y < node.y || node2.costMalus >= 0.0F || bl);
 		} else {
 			return false;
@@ -196,11 +211,11 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 	}
 
 	private boolean canReachWithoutCollision(Node node) {
-		AABB aABB = this.mob.getBoundingBox();
+		AABB aABB = this.mobState.getBoundingBox();
 		Vec3 vec3 = new Vec3(
-			(double)node.x - this.mob.getX() + aABB.getXsize() / 2.0,
-			(double)node.y - this.mob.getY() + aABB.getYsize() / 2.0,
-			(double)node.z - this.mob.getZ() + aABB.getZsize() / 2.0
+			(double)node.x - this.mobState.getX() + aABB.getXsize() / 2.0,
+			(double)node.y - this.mobState.getY() + aABB.getYsize() / 2.0,
+			(double)node.z - this.mobState.getZ() + aABB.getZsize() / 2.0
 		);
 		int i = Mth.ceil(vec3.length() / aABB.getSize());
 		vec3 = vec3.scale((double)(1.0F / (float)i));
@@ -240,8 +255,8 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 			return null;
 		} else {
 			BlockPathTypes blockPathTypes2 = this.getCachedBlockType(this.mob, i, j, k);
-			float f = this.mob.getPathfindingMalus(blockPathTypes2);
-			double g = (double)this.mob.getBbWidth() / 2.0;
+			float f = this.mobState.getPathfindingMalus(blockPathTypes2);
+			double g = (double)this.mobState.getBbWidth() / 2.0;
 			if (f >= 0.0F) {
 				node = this.getNodeAndUpdateCostToMax(i, j, k, blockPathTypes2, f);
 			}
@@ -258,7 +273,7 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 					&& blockPathTypes2 != BlockPathTypes.TRAPDOOR
 					&& blockPathTypes2 != BlockPathTypes.POWDER_SNOW) {
 					node = this.findAcceptedNode(i, j + 1, k, l - 1, d, direction, blockPathTypes);
-					if (node != null && (node.type == BlockPathTypes.OPEN || node.type == BlockPathTypes.WALKABLE) && this.mob.getBbWidth() < 1.0F) {
+					if (node != null && (node.type == BlockPathTypes.OPEN || node.type == BlockPathTypes.WALKABLE) && this.mobState.getBbWidth() < 1.0F) {
 						double h = (double)(i - direction.getStepX()) + 0.5;
 						double m = (double)(k - direction.getStepZ()) + 0.5;
 						AABB aABB = new AABB(
@@ -266,7 +281,7 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 							this.getFloorLevel(mutableBlockPos.set(h, (double)(j + 1), m)) + 0.001,
 							m - g,
 							h + g,
-							(double)this.mob.getBbHeight() + this.getFloorLevel(mutableBlockPos.set((double)node.x, (double)node.y, (double)node.z)) - 0.002,
+							(double)this.mobState.getBbHeight() + this.getFloorLevel(mutableBlockPos.set((double)node.x, (double)node.y, (double)node.z)) - 0.002,
 							m + g
 						);
 						if (this.hasCollisions(aABB)) {
@@ -280,13 +295,13 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 						return node;
 					}
 
-					while(j > this.mob.level().getMinBuildHeight()) {
+					while(j > this.mobState.getMinBuildHeight()) {
 						blockPathTypes2 = this.getCachedBlockType(this.mob, i, --j, k);
 						if (blockPathTypes2 != BlockPathTypes.WATER) {
 							return node;
 						}
 
-						node = this.getNodeAndUpdateCostToMax(i, j, k, blockPathTypes2, this.mob.getPathfindingMalus(blockPathTypes2));
+						node = this.getNodeAndUpdateCostToMax(i, j, k, blockPathTypes2, this.mobState.getPathfindingMalus(blockPathTypes2));
 					}
 				}
 
@@ -295,16 +310,16 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 					int o = j;
 
 					while(blockPathTypes2 == BlockPathTypes.OPEN) {
-						if (--j < this.mob.level().getMinBuildHeight()) {
+						if (--j < this.mobState.getMinBuildHeight()) {
 							return this.getBlockedNode(i, o, k);
 						}
 
-						if (n++ >= this.mob.getMaxFallDistance()) {
+						if (n++ >= this.mobState.getMaxFallDistance()) {
 							return this.getBlockedNode(i, j, k);
 						}
 
 						blockPathTypes2 = this.getCachedBlockType(this.mob, i, j, k);
-						f = this.mob.getPathfindingMalus(blockPathTypes2);
+						f = this.mobState.getPathfindingMalus(blockPathTypes2);
 						if (blockPathTypes2 != BlockPathTypes.OPEN && f >= 0.0F) {
 							node = this.getNodeAndUpdateCostToMax(i, j, k, blockPathTypes2, f);
 							break;
@@ -331,7 +346,7 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 	}
 
 	private double getMobJumpHeight() {
-		return Math.max(1.125, (double)this.mob.maxUpStep());
+		return Math.max(1.125, (double)this.mobState.maxUpStep());
 	}
 
 	private Node getNodeAndUpdateCostToMax(int i, int j, int k, BlockPathTypes blockPathTypes, float f) {
@@ -349,14 +364,14 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 	}
 
 	private boolean hasCollisions(AABB aABB) {
-		return this.collisionCache.computeIfAbsent(aABB, (Object2BooleanFunction<? super AABB>)(object -> !this.level.noCollision(this.mob, aABB)));
+		return this.collisionCache.computeIfAbsent(aABB, (Object2BooleanFunction<? super AABB>)(object -> !this.mobState.noCollision(this.level, aABB)));
 	}
 
 	@Override
 	public BlockPathTypes getBlockPathType(BlockGetter blockGetter, int i, int j, int k, Mob mob) {
 		EnumSet<BlockPathTypes> enumSet = EnumSet.noneOf(BlockPathTypes.class);
 		BlockPathTypes blockPathTypes = BlockPathTypes.BLOCKED;
-		blockPathTypes = this.getBlockPathTypes(blockGetter, i, j, k, enumSet, blockPathTypes, mob.blockPosition());
+		blockPathTypes = this.getBlockPathTypes(blockGetter, i, j, k, enumSet, blockPathTypes, this.getMobPosition(mob));
 		if (enumSet.contains(BlockPathTypes.FENCE)) {
 			return BlockPathTypes.FENCE;
 		} else if (enumSet.contains(BlockPathTypes.UNPASSABLE_RAIL)) {
@@ -365,16 +380,16 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 			BlockPathTypes blockPathTypes2 = BlockPathTypes.BLOCKED;
 
 			for(BlockPathTypes blockPathTypes3 : enumSet) {
-				if (mob.getPathfindingMalus(blockPathTypes3) < 0.0F) {
+				if (this.getPathfindingMalus(mob, blockPathTypes3) < 0.0F) {
 					return blockPathTypes3;
 				}
 
-				if (mob.getPathfindingMalus(blockPathTypes3) >= mob.getPathfindingMalus(blockPathTypes2)) {
+				if (this.getPathfindingMalus(mob, blockPathTypes3) >= this.getPathfindingMalus(mob, blockPathTypes2)) {
 					blockPathTypes2 = blockPathTypes3;
 				}
 			}
 
-			return blockPathTypes == BlockPathTypes.OPEN && mob.getPathfindingMalus(blockPathTypes2) == 0.0F && this.entityWidth <= 1
+			return blockPathTypes == BlockPathTypes.OPEN && this.getPathfindingMalus(mob, blockPathTypes2) == 0.0F && this.entityWidth <= 1
 				? BlockPathTypes.OPEN
 				: blockPathTypes2;
 		}
@@ -437,6 +452,35 @@ public class WalkNodeEvaluator extends NodeEvaluator {
 	}
 
 	public static BlockPathTypes getBlockPathTypeStatic(BlockGetter blockGetter, BlockPos.MutableBlockPos mutableBlockPos) {
+		if (cachePathTypes
+			&& blockGetter instanceof CollisionGetter collisionGetter
+			&& !(blockGetter instanceof PathNavigationRegion pathNavigationRegion && pathNavigationRegion.isAsync())) {
+			int i = mutableBlockPos.getX();
+			int j = mutableBlockPos.getY();
+			int k = mutableBlockPos.getZ();
+			int l = i & 15;
+			int m = k & 15;
+			if (l > 0
+				&& l < 15
+				&& m > 0
+				&& m < 15
+				&& collisionGetter.getChunkForCollisions(SectionPos.blockToSectionCoord(i), SectionPos.blockToSectionCoord(k)) instanceof LevelChunk levelChunk
+				&& !(levelChunk instanceof EmptyLevelChunk)) {
+				byte b = levelChunk.getCachedPathType(i, j, k);
+				if (b != 0) {
+					return PATH_TYPES[b - 1];
+				}
+
+				BlockPathTypes blockPathTypes = computeBlockPathTypeStatic(levelChunk, mutableBlockPos);
+				levelChunk.setCachedPathType(i, j, k, (byte)(blockPathTypes.ordinal() + 1));
+				return blockPathTypes;
+			}
+		}
+
+		return computeBlockPathTypeStatic(blockGetter, mutableBlockPos);
+	}
+
+	private static BlockPathTypes computeBlockPathTypeStatic(BlockGetter blockGetter, BlockPos.MutableBlockPos mutableBlockPos) {
 		int i = mutableBlockPos.getX();
 		int j = mutableBlockPos.getY();
 		int k = mutableBlockPos.getZ();
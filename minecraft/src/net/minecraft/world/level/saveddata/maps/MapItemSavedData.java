@@ -131,7 +131,7 @@ public class MapItemSavedData extends SavedData {
 	}
 
 	@Override
-	public CompoundTag save(CompoundTag compoundTag) {
+	public synchronized CompoundTag save(CompoundTag compoundTag) {
 		ResourceLocation.CODEC
 			.encodeStart(NbtOps.INSTANCE, this.dimension.location())
 			.resultOrPartial(LOGGER::error)
@@ -160,7 +160,7 @@ public class MapItemSavedData extends SavedData {
 		return compoundTag;
 	}
 
-	public MapItemSavedData locked() {
+	public synchronized MapItemSavedData locked() {
 		MapItemSavedData mapItemSavedData = new MapItemSavedData(
 			this.centerX, this.centerZ, this.scale, this.trackingPosition, this.unlimitedTracking, true, this.dimension
 		);
@@ -172,7 +172,7 @@ public class MapItemSavedData extends SavedData {
 		return mapItemSavedData;
 	}
 
-	public MapItemSavedData scaled(int i) {
+	public synchronized MapItemSavedData scaled(int i) {
 		return createFresh(
 			(double)this.centerX, (double)this.centerZ, (byte)Mth.clamp(this.scale + i, 0, 4), this.trackingPosition, this.unlimitedTracking, this.dimension
 		);
@@ -189,7 +189,7 @@ public class MapItemSavedData extends SavedData {
 		};
 	}
 
-	public void tickCarriedBy(Player player, ItemStack itemStack) {
+	public synchronized void tickCarriedBy(Player player, ItemStack itemStack) {
 		if (!this.carriedByPlayers.containsKey(player)) {
 			MapItemSavedData.HoldingPlayer holdingPlayer = new MapItemSavedData.HoldingPlayer(player);
 			this.carriedByPlayers.put(player, holdingPlayer);
@@ -365,7 +365,7 @@ public class MapItemSavedData extends SavedData {
 	}
 
 	@Nullable
-	public Packet<?> getUpdatePacket(int i, Player player) {
+	public synchronized Packet<?> getUpdatePacket(int i, Player player) {
 		MapItemSavedData.HoldingPlayer holdingPlayer = (MapItemSavedData.HoldingPlayer)this.carriedByPlayers.get(player);
 		return holdingPlayer == null ? null : holdingPlayer.nextUpdatePacket(i);
 	}
@@ -383,7 +383,7 @@ public class MapItemSavedData extends SavedData {
 		this.carriedBy.forEach(MapItemSavedData.HoldingPlayer::markDecorationsDirty);
 	}
 
-	public MapItemSavedData.HoldingPlayer getHoldingPlayer(Player player) {
+	public synchronized MapItemSavedData.HoldingPlayer getHoldingPlayer(Player player) {
 		MapItemSavedData.HoldingPlayer holdingPlayer = (MapItemSavedData.HoldingPlayer)this.carriedByPlayers.get(player);
 		if (holdingPlayer == null) {
 			holdingPlayer = new MapItemSavedData.HoldingPlayer(player);
@@ -394,7 +394,7 @@ public class MapItemSavedData extends SavedData {
 		return holdingPlayer;
 	}
 
-	public boolean toggleBanner(LevelAccessor levelAccessor, BlockPos blockPos) {
+	public synchronized boolean toggleBanner(LevelAccessor levelAccessor, BlockPos blockPos) {
 		double d = (double)blockPos.getX() + 0.5;
 		double e = (double)blockPos.getZ() + 0.5;
 		int i = 1 << this.scale;
@@ -422,7 +422,7 @@ public class MapItemSavedData extends SavedData {
 		return false;
 	}
 
-	public void checkBanners(BlockGetter blockGetter, int i, int j) {
+	public synchronized void checkBanners(BlockGetter blockGetter, int i, int j) {
 		Iterator<MapBanner> iterator = this.bannerMarkers.values().iterator();
 
 		while(iterator.hasNext()) {
@@ -441,12 +441,12 @@ public class MapItemSavedData extends SavedData {
 		return this.bannerMarkers.values();
 	}
 
-	public void removedFromFrame(BlockPos blockPos, int i) {
+	public synchronized void removedFromFrame(BlockPos blockPos, int i) {
 		this.removeDecoration("frame-" + i);
 		this.frameMarkers.remove(MapFrame.frameId(blockPos));
 	}
 
-	public boolean updateColor(int i, int j, byte b) {
+	public synchronized boolean updateColor(int i, int j, byte b) {
 		byte c = this.colors[i + j * 128];
 		if (c != b) {
 			this.setColor(i, j, b);
@@ -456,12 +456,12 @@ public class MapItemSavedData extends SavedData {
 		}
 	}
 
-	public void setColor(int i, int j, byte b) {
+	public synchronized void setColor(int i, int j, byte b) {
 		this.colors[i + j * 128] = b;
 		this.setColorsDirty(i, j);
 	}
 
-	public boolean isExplorationMap() {
+	public synchronized boolean isExplorationMap() {
 		for(MapDecoration mapDecoration : this.decorations.values()) {
 			if (mapDecoration.type().isExplorationMapElement()) {
 				return true;
@@ -488,7 +488,7 @@ public class MapItemSavedData extends SavedData {
 		return this.decorations.values();
 	}
 
-	public boolean isTrackedCountOverLimit(int i) {
+	public synchronized boolean isTrackedCountOverLimit(int i) {
 		return this.trackedDecorationCount >= i;
 	}
 
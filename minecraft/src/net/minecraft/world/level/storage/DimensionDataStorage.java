@@ -35,7 +35,7 @@ public class DimensionDataStorage {
 		return new File(this.dataFolder, string + ".dat");
 	}
 
-	public <T extends SavedData> T computeIfAbsent(SavedData.Factory<T> factory, String string) {
+	public synchronized <T extends SavedData> T computeIfAbsent(SavedData.Factory<T> factory, String string) {
 		T savedData = this.get(factory, string);
 		if (savedData != null) {
 			return savedData;
@@ -47,7 +47,7 @@ public class DimensionDataStorage {
 	}
 
 	@Nullable
-	public <T extends SavedData> T get(SavedData.Factory<T> factory, String string) {
+	public synchronized <T extends SavedData> T get(SavedData.Factory<T> factory, String string) {
 		SavedData savedData = (SavedData)this.cache.get(string);
 		if (savedData == null && !this.cache.containsKey(string)) {
 			savedData = this.readSavedData(factory.deserializer(), factory.type(), string);
@@ -72,7 +72,7 @@ public class DimensionDataStorage {
 		return null;
 	}
 
-	public void set(String string, SavedData savedData) {
+	public synchronized void set(String string, SavedData savedData) {
 		this.cache.put(string, savedData);
 	}
 
@@ -151,7 +151,7 @@ public class DimensionDataStorage {
 		return bl;
 	}
 
-	public void save() {
+	public synchronized void save() {
 		this.cache.forEach((string, savedData) -> {
 			if (savedData != null) {
 				savedData.save(this.getDataFile(string));